@@ -0,0 +1,556 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded HTTP server exposing the service layer as a JSON API, for callers
+ * that want to use the system without the menus. Requests carry their
+ * parameters in the query string or as a form-encoded body; every response is
+ * JSON, streamed with chunked encoding so long listings are never buffered
+ * whole.
+ * <p>
+ * {@code POST /api/login} with {@code userId} and {@code password} in the
+ * form-encoded body (never the query string, which ends up in logs) returns a
+ * token to send as {@code Authorization: Bearer <token>} on the other calls:
+ * <ul>
+ * <li>{@code POST /api/logout}</li>
+ * <li>{@code GET /api/internships}: a student's eligible internships, a
+ *     representative's own, or all of them for staff; filtered by
+ *     {@code status}, {@code level}, {@code major} and {@code minGpa}, sorted
+ *     by {@code sort}, paged by {@code offset} or cursor {@code after} and {@code limit}</li>
+ * <li>{@code GET /api/applications}: a student's applications, or those for a
+ *     representative's internships, oldest first, paged the same way</li>
+ * <li>{@code POST /api/applications} with {@code opportunityId}: apply</li>
+ * <li>{@code POST /api/applications/{id}/accept}, {@code /withdraw}: student actions</li>
+ * <li>{@code POST /api/applications/{id}/approve}, {@code /reject}: representative actions</li>
+ * </ul>
+ * Configured with {@code ipms.apiPort} (default 8080) and {@code ipms.apiThreads} (default 16).
+ */
+public class ApiServer {
+    static final int PORT = Integer.getInteger("ipms.apiPort", 8080);
+    private static final int THREADS = Integer.getInteger("ipms.apiThreads", 16);
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 200;
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final long TOKEN_IDLE_MS = Long.getLong("ipms.sessionIdleMs", 10 * 60 * 1000L);
+    private static final long EXPIRY_SWEEP_MS = 1000;
+    private static final Page.Order<Application> APPLICATION_ORDER = new Page.Order<>("applied",
+        app -> Page.Order.numberValue(app.getAppliedTime()), Application::getApplicationID); // oldest first
+
+    private final ServiceFactory serviceFactory;
+    private final IStudentApplicationService studentApplications;
+    private final ICompanyRepApplicationService repApplications;
+    private final Map<String, ApiSession> sessions = new ConcurrentHashMap<>(); // keyed by token
+    private final AtomicLong nextExpirySweep = new AtomicLong();
+    private final SecureRandom random = new SecureRandom();
+    private HttpServer server;
+    private ExecutorService workers;
+
+    /**
+     * Constructs an ApiServer.
+     *
+     * @param serviceFactory the initialized services to expose
+     */
+    public ApiServer(ServiceFactory serviceFactory) {
+        this.serviceFactory = serviceFactory;
+        this.studentApplications = (IStudentApplicationService) serviceFactory.getApplicationService();
+        this.repApplications = serviceFactory.getCompanyRepApplicationService();
+    }
+
+    /**
+     * Starts serving on the loopback interface. Requests are handled on a
+     * pool of worker threads; this method returns once the server is listening.
+     *
+     * @param port the TCP port, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        workers = Executors.newFixedThreadPool(Math.max(1, THREADS), r -> {
+            Thread thread = new Thread(r, "api-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(workers);
+        server.createContext("/api/login", exchange -> handle(exchange, false, this::login));
+        server.createContext("/api/logout", exchange -> handle(exchange, true, this::logout));
+        server.createContext("/api/internships", exchange -> handle(exchange, true, this::internships));
+        server.createContext("/api/applications", exchange -> handle(exchange, true, this::applications));
+        server.start();
+        System.out.println("Serving JSON API on http://" + server.getAddress().getHostString() + ":" + getPort() + "/api");
+    }
+
+    /**
+     * Gets the port the API is served on.
+     *
+     * @return the bound port, or -1 if the server is not started
+     */
+    public int getPort() {
+        return server == null ? -1 : server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, letting requests in progress finish for up to a second.
+     */
+    public void shutdown() {
+        if (server != null) {
+            server.stop(1);
+            workers.shutdown();
+        }
+    }
+
+    private void login(Call call) throws IOException {
+        if (!call.requireMethod("POST")) {
+            return;
+        }
+        if (call.bodyParam("userId") == null && call.bodyParam("password") == null
+                && (call.param("userId") != null || call.param("password") != null)) {
+            call.error(400, "Send userId and password in a form-encoded body, not the query string.");
+            return;
+        }
+        User user = serviceFactory.getUserService().login(call.bodyParam("userId"), call.bodyParam("password"));
+        if (user == null) {
+            call.error(401, "Invalid user ID or password.");
+            return;
+        }
+        if (user.isCompanyRepresentative() && !user.asCompanyRepresentative().isApproved()) {
+            call.error(403, user.asCompanyRepresentative().isRejected() ? "Your account is rejected." : "Your account is pending approval.");
+            return;
+        }
+        expireIdleSessions();
+        byte[] bytes = new byte[24];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessions.put(token, new ApiSession(user));
+        JsonWriter json = call.respond(200);
+        json.beginObject()
+            .field("token", token)
+            .field("userId", user.getUserID())
+            .field("name", user.getName())
+            .field("role", roleOf(user))
+            .endObject();
+    }
+
+    private void logout(Call call) throws IOException {
+        if (!call.requireMethod("POST")) {
+            return;
+        }
+        sessions.remove(call.token);
+        call.result(true, "Logged out.");
+    }
+
+    private void internships(Call call) throws IOException {
+        if (!call.requireMethod("GET") || !call.requirePath("/api/internships")) {
+            return;
+        }
+        User user = call.user;
+        List<InternshipOpportunity> listing;
+        if (user.isStudent()) {
+            listing = studentApplications.getEligibleInternshipsForStudent(user.getUserID());
+        } else if (user.isCompanyRepresentative()) {
+            listing = new ArrayList<>();
+            for (InternshipOpportunity opp : serviceFactory.getInternshipService().getAllInternships()) {
+                if (opp.getCreatedBy().getUserID().equalsIgnoreCase(user.getUserID())) { // IDs are case-insensitive
+                    listing.add(opp);
+                }
+            }
+        } else {
+            listing = serviceFactory.getInternshipService().getAllInternships();
+        }
+        FilterSettings filters = new FilterSettings();
+        filters.setStatusFilter(call.param("status", ""));
+        filters.setLevelFilter(call.param("level", ""));
+        filters.setMajorFilter(call.param("major", ""));
+        filters.setSortBy(call.param("sort", "title"));
+        try {
+            filters.setMinGPAFilter(Double.parseDouble(call.param("minGpa", "0")));
+        } catch (NumberFormatException e) {
+            call.error(400, "minGpa must be a number.");
+            return;
+        }
+        List<InternshipOpportunity> filtered = filters.applyFilters(listing, serviceFactory.getInternshipService().getInternshipRepository());
+        Page<InternshipOpportunity> page = call.page(filtered, InternshipSortKey.fromSetting(filters.getSortBy()).getPageOrder());
+        if (page == null) {
+            return;
+        }
+        JsonWriter json = call.respond(200);
+        writePage(json, page);
+        for (InternshipOpportunity opp : page.getItems()) {
+            writeInternship(json, opp);
+        }
+        json.endArray().endObject();
+    }
+
+    private void applications(Call call) throws IOException {
+        String[] path = call.exchange.getRequestURI().getPath().split("/"); // "", "api", "applications", id, action
+        if (path.length == 3) {
+            if ("GET".equals(call.method)) {
+                listApplications(call);
+            } else if (call.requireMethod("POST") && call.requireRole(call.user.isStudent())) {
+                OperationResult result = studentApplications.applyForInternship(call.user.getUserID(), call.param("opportunityId", ""));
+                call.result(result.isSuccess(), result.getMessage());
+            }
+            return;
+        }
+        if (path.length != 5) {
+            call.error(404, "Not found.");
+            return;
+        }
+        if (!call.requireMethod("POST")) {
+            return;
+        }
+        String applicationId = path[3];
+        String userId = call.user.getUserID();
+        switch (path[4]) {
+            case "accept":
+                if (call.requireRole(call.user.isStudent())) {
+                    OperationResult result = studentApplications.acceptInternship(userId, applicationId);
+                    call.result(result.isSuccess(), result.getMessage());
+                }
+                break;
+            case "withdraw":
+                if (call.requireRole(call.user.isStudent())) {
+                    OperationResult result = studentApplications.requestWithdrawal(userId, applicationId);
+                    call.result(result.isSuccess(), result.getMessage());
+                }
+                break;
+            case "approve":
+            case "reject":
+                if (call.requireRole(call.user.isCompanyRepresentative())) {
+                    boolean approve = path[4].equals("approve");
+                    boolean processed = repApplications.processApplication(userId, applicationId, approve);
+                    call.result(processed, processed
+                        ? (approve ? "Application approved." : "Application rejected.")
+                        : "Application not found, not pending, or no slots available.");
+                }
+                break;
+            default:
+                call.error(404, "Not found.");
+        }
+    }
+
+    private void listApplications(Call call) throws IOException {
+        User user = call.user;
+        List<Application> listing;
+        if (user.isStudent()) {
+            listing = studentApplications.getApplicationsForStudent(user.getUserID());
+        } else if (user.isCompanyRepresentative()) {
+            listing = repApplications.getApplicationsForCompanyRep(user.getUserID());
+        } else {
+            listing = serviceFactory.getApplicationRepository().getAllApplications();
+        }
+        listing = new ArrayList<>(listing);
+        listing.sort(APPLICATION_ORDER); // already nearly in this order, so the sort is close to linear
+        Page<Application> page = call.page(listing, APPLICATION_ORDER);
+        if (page == null) {
+            return;
+        }
+        JsonWriter json = call.respond(200);
+        writePage(json, page);
+        for (Application app : page.getItems()) {
+            writeApplication(json, app);
+        }
+        json.endArray().endObject();
+    }
+
+    /**
+     * Opens a page object and its {@code items} array; the caller writes the items and closes both.
+     */
+    private static void writePage(JsonWriter json, Page<?> page) throws IOException {
+        json.beginObject()
+            .field("offset", page.getOffset())
+            .field("limit", page.getLimit())
+            .field("total", page.getTotal())
+            .field("nextCursor", page.getNextCursor())
+            .name("items").beginArray();
+    }
+
+    private void writeInternship(JsonWriter json, InternshipOpportunity opp) throws IOException {
+        json.beginObject()
+            .field("id", opp.getOpportunityID())
+            .field("title", opp.getTitle())
+            .field("description", opp.getDescription())
+            .field("level", opp.getLevel())
+            .field("preferredMajor", opp.getPreferredMajor())
+            .field("company", opp.getCreatedBy().getCompanyName())
+            .field("openingDate", isoDate(opp.getOpeningTime()))
+            .field("closingDate", isoDate(opp.getClosingTime()))
+            .field("status", opp.getStatus())
+            .field("visible", opp.isVisible())
+            .field("maxSlots", opp.getMaxSlots())
+            .field("filledSlots", repApplications.getFilledSlots(opp.getOpportunityID()))
+            .field("minGpa", opp.getMinGPA())
+            .endObject();
+    }
+
+    private static void writeApplication(JsonWriter json, Application app) throws IOException {
+        InternshipOpportunity opp = app.getOpportunity();
+        json.beginObject()
+            .field("id", app.getApplicationID())
+            .field("studentId", app.getApplicant().getUserID())
+            .field("studentName", app.getApplicant().getName())
+            .field("opportunityId", opp.getOpportunityID())
+            .field("title", opp.getTitle())
+            .field("company", opp.getCreatedBy().getCompanyName())
+            .field("status", app.getStatusEnum().getLabel())
+            .field("appliedDate", isoDate(app.getAppliedTime()))
+            .endObject();
+    }
+
+    private static String isoDate(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()).toLocalDate().toString();
+    }
+
+    private static String roleOf(User user) {
+        if (user.isStudent()) {
+            return "student";
+        }
+        return user.isCompanyRepresentative() ? "companyRepresentative" : "staff";
+    }
+
+    /**
+     * Drops the sessions idle for longer than {@code ipms.sessionIdleMs}. Runs on
+     * every login and authenticated call, but sweeps the table at most once a second.
+     */
+    private void expireIdleSessions() {
+        if (TOKEN_IDLE_MS <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long next = nextExpirySweep.get();
+        if (now < next || !nextExpirySweep.compareAndSet(next, now + EXPIRY_SWEEP_MS)) {
+            return;
+        }
+        long cutoff = now - TOKEN_IDLE_MS;
+        sessions.values().removeIf(session -> session.lastUsed < cutoff);
+    }
+
+    /**
+     * Runs a handler for one exchange, authenticating it first if required,
+     * and turns failures into JSON errors.
+     */
+    private void handle(HttpExchange exchange, boolean authenticated, Handler handler) {
+        Call call = new Call(exchange);
+        try {
+            call.readParams();
+            if (authenticated && !call.authenticate()) {
+                call.error(401, "Missing or expired token.");
+            } else {
+                handler.handle(call);
+            }
+        } catch (IllegalArgumentException e) {
+            call.tryError(400, e.getMessage());
+        } catch (IOException e) {
+            // client went away; nothing to report to
+        } catch (RuntimeException e) {
+            System.err.println("Error handling " + exchange.getRequestURI() + ": " + e);
+            call.tryError(500, "Internal error.");
+        } finally {
+            call.finish();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(Call call) throws IOException;
+    }
+
+    /**
+     * A logged-in API caller.
+     */
+    private static final class ApiSession {
+        private final User user;
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        private ApiSession(User user) {
+            this.user = user;
+        }
+    }
+
+    /**
+     * One request and its response.
+     */
+    private final class Call {
+        private final HttpExchange exchange;
+        private final String method;
+        private final Map<String, String> params = new HashMap<>();
+        private final Map<String, String> bodyParams = new HashMap<>();
+        private String token;
+        private User user;
+        private JsonWriter json;
+
+        private Call(HttpExchange exchange) {
+            this.exchange = exchange;
+            this.method = exchange.getRequestMethod();
+        }
+
+        private void readParams() throws IOException {
+            parseForm(exchange.getRequestURI().getRawQuery(), params);
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            if (contentType != null && contentType.startsWith("application/x-www-form-urlencoded")) {
+                try (InputStream in = exchange.getRequestBody()) {
+                    byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+                    if (body.length > MAX_BODY_BYTES) {
+                        throw new IllegalArgumentException("Request body too large.");
+                    }
+                    parseForm(new String(body, StandardCharsets.UTF_8), bodyParams);
+                    params.putAll(bodyParams);
+                }
+            }
+        }
+
+        private void parseForm(String form, Map<String, String> into) {
+            if (form == null || form.isEmpty()) {
+                return;
+            }
+            for (String pair : form.split("&")) {
+                int eq = pair.indexOf('=');
+                String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+                String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+                into.put(name, value);
+            }
+        }
+
+        private boolean authenticate() {
+            String header = exchange.getRequestHeaders().getFirst("Authorization");
+            if (header == null || !header.startsWith("Bearer ")) {
+                return false;
+            }
+            token = header.substring("Bearer ".length()).trim();
+            expireIdleSessions();
+            ApiSession session = sessions.get(token);
+            if (session == null || (TOKEN_IDLE_MS > 0 && System.currentTimeMillis() - session.lastUsed > TOKEN_IDLE_MS)) {
+                sessions.remove(token);
+                return false;
+            }
+            session.lastUsed = System.currentTimeMillis();
+            user = session.user;
+            return true;
+        }
+
+        private String param(String name) {
+            return params.get(name);
+        }
+
+        private String bodyParam(String name) {
+            return bodyParams.get(name);
+        }
+
+        private String param(String name, String defaultValue) {
+            return params.getOrDefault(name, defaultValue);
+        }
+
+        private int intParam(String name, int defaultValue) {
+            String value = params.get(name);
+            if (value == null || value.isEmpty()) {
+                return defaultValue;
+            }
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(name + " must be a whole number.");
+            }
+        }
+
+        private <T> Page<T> page(List<T> listing, Page.Order<? super T> order) throws IOException {
+            int limit = intParam("limit", DEFAULT_LIMIT);
+            if (limit < 1 || limit > MAX_LIMIT) {
+                error(400, "limit must be between 1 and " + MAX_LIMIT + ".");
+                return null;
+            }
+            String after = param("after");
+            if (after == null) {
+                return Page.of(listing, intParam("offset", 0), limit, order::cursorOf);
+            }
+            try {
+                return Page.after(listing, order, after, limit);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("after must be the nextCursor of a page in the same sort order.");
+            }
+        }
+
+        private boolean requireMethod(String expected) throws IOException {
+            if (!expected.equals(method)) {
+                exchange.getResponseHeaders().set("Allow", expected);
+                error(405, "Use " + expected + ".");
+                return false;
+            }
+            return true;
+        }
+
+        private boolean requirePath(String expected) throws IOException {
+            if (!expected.equals(exchange.getRequestURI().getPath())) {
+                error(404, "Not found.");
+                return false;
+            }
+            return true;
+        }
+
+        private boolean requireRole(boolean allowed) throws IOException {
+            if (!allowed) {
+                error(403, "Not available to your role.");
+            }
+            return allowed;
+        }
+
+        private JsonWriter respond(int status) throws IOException {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, 0); // chunked: the body is streamed as it is written
+            json = new JsonWriter(new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)));
+            return json;
+        }
+
+        private void result(boolean success, String message) throws IOException {
+            respond(success ? 200 : 409).beginObject()
+                .field("success", success)
+                .field("message", message)
+                .endObject();
+        }
+
+        private void error(int status, String message) throws IOException {
+            respond(status).beginObject().field("error", message).endObject();
+        }
+
+        private void tryError(int status, String message) {
+            if (json != null) {
+                return; // headers already sent; the client sees a truncated body
+            }
+            try {
+                error(status, message);
+            } catch (IOException e) {
+                // client went away
+            }
+        }
+
+        private void finish() {
+            try {
+                if (json != null) {
+                    json.close();
+                }
+            } catch (IOException e) {
+                // client went away
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+}
@@ -9,10 +9,11 @@ public class Application {
     private final String applicationID;
     private final Student applicant;
     private final InternshipOpportunity opportunity;
-    private ApplicationStatus status;
-    private final Date appliedDate;
+    private volatile ApplicationStatus status;
+    private final long appliedTime; // epoch millis
     private boolean manuallyWithdrawn;
     private ApplicationStatus previousStatus; // stores status before a withdrawal request
+    private IApplicationStatusListener statusListener;
 
     /**
      * Constructs an Application with the current date as applied date.
@@ -27,9 +28,10 @@ public class Application {
         this.applicant = applicant;
         this.opportunity = opportunity;
         this.status = status;
-        this.appliedDate = new Date();
+        this.appliedTime = System.currentTimeMillis();
         this.manuallyWithdrawn = false;
         this.previousStatus = null;
+        opportunity.applicationAdded(status);
     }
 
     /**
@@ -39,24 +41,50 @@ public class Application {
      * @param applicant the student applying
      * @param opportunity the internship opportunity
      * @param status the current status of the application
-     * @param appliedDate the date the application was submitted
+     * @param appliedTime when the application was submitted, in epoch milliseconds
      */
-    public Application(String applicationID, Student applicant, InternshipOpportunity opportunity, ApplicationStatus status, Date appliedDate) {
+    public Application(String applicationID, Student applicant, InternshipOpportunity opportunity, ApplicationStatus status, long appliedTime) {
         this.applicationID = applicationID;
         this.applicant = applicant;
         this.opportunity = opportunity;
         this.status = status;
-        this.appliedDate = appliedDate;
+        this.appliedTime = appliedTime;
         this.manuallyWithdrawn = false;
         this.previousStatus = null;
+        opportunity.applicationAdded(status);
     }
 
     /**
      * Updates the status of the application, handling withdrawal logic.
+     * The opportunity's per-status counters are updated before listeners are notified.
      *
      * @param newStatus the new status to set
      */
-    public void updateStatus(ApplicationStatus newStatus) {
+    public synchronized void updateStatus(ApplicationStatus newStatus) {
+        applyStatus(newStatus, false);
+    }
+
+    /**
+     * Updates the status only if it is still the expected one, using a slot
+     * reserved with {@link InternshipOpportunity#tryReserveSlot()} for the
+     * new status instead of taking another. If the status is updated the
+     * reservation is consumed, or released if the new status needs no slot;
+     * if not, the caller still owns the reservation and must release it.
+     *
+     * @param expected the status the application must be in
+     * @param newStatus the new status to set
+     * @return true if the status was updated
+     */
+    public synchronized boolean updateStatusWithReservedSlot(ApplicationStatus expected, ApplicationStatus newStatus) {
+        if (status != expected) {
+            return false;
+        }
+        applyStatus(newStatus, true);
+        return true;
+    }
+
+    private void applyStatus(ApplicationStatus newStatus, boolean slotReserved) {
+        ApplicationStatus oldStatus = this.status;
         if (newStatus == ApplicationStatus.WITHDRAWAL_REQUESTED && status != ApplicationStatus.WITHDRAWAL_REQUESTED) {
             this.previousStatus = this.status;
         }
@@ -68,9 +96,44 @@ public class Application {
             }
             this.manuallyWithdrawn = false;
             this.previousStatus = null;
+        } else {
+            this.status = newStatus;
+        }
+        if (oldStatus == this.status) {
+            if (slotReserved) {
+                opportunity.releaseSlot();
+            }
             return;
         }
-        this.status = newStatus;
+        opportunity.applicationStatusChanged(oldStatus, this.status, slotReserved);
+        if (statusListener != null) {
+            statusListener.onStatusChanged(this, oldStatus, this.status);
+        }
+    }
+
+    /**
+     * Updates the status only if it is still the expected one, so that of
+     * several threads deciding the same application only the first succeeds.
+     *
+     * @param expected the status the application must be in
+     * @param newStatus the new status to set
+     * @return true if the status was updated
+     */
+    public synchronized boolean updateStatusIf(ApplicationStatus expected, ApplicationStatus newStatus) {
+        if (status != expected) {
+            return false;
+        }
+        updateStatus(newStatus);
+        return true;
+    }
+
+    /**
+     * Sets the listener notified when the status changes.
+     *
+     * @param statusListener the listener, or null to detach
+     */
+    public void setStatusListener(IApplicationStatusListener statusListener) {
+        this.statusListener = statusListener;
     }
 
     /**
@@ -124,7 +187,16 @@ public class Application {
      * @return the applied date
      */
     public Date getAppliedDate() {
-        return appliedDate;
+        return new Date(appliedTime);
+    }
+
+    /**
+     * Gets when the application was submitted without allocating.
+     *
+     * @return the applied time in epoch milliseconds
+     */
+    public long getAppliedTime() {
+        return appliedTime;
     }
 
     /**
@@ -1,5 +1,6 @@
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Service class for managing internship applications.
@@ -7,9 +8,11 @@ import java.util.List;
  */
 public class ApplicationService implements IApplicationService, IStudentApplicationService, IStaffApplicationService, ICompanyRepApplicationService {
     private static final int MAX_ACTIVE_APPLICATIONS = 3;
+    private static final Object[] STUDENT_LOCKS = newStripes(Integer.getInteger("ipms.studentLockStripes", 64)); // serialize each student's admissions
     private final IApplicationRepository applicationRepository;
     private final IInternshipRepository internshipRepository;
     private final IUserRepository userRepository;
+    private final EligibilityIndex eligibilityIndex = EligibilityIndex.getInstance();
 
     /**
      * Constructs an ApplicationService with the necessary repositories.
@@ -22,12 +25,17 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
         this.applicationRepository = applicationRepository;
         this.internshipRepository = internshipRepository;
         this.userRepository = userRepository;
+        eligibilityIndex.initialize(internshipRepository);
     }
 
     /**
      * Allows a student to apply for an internship opportunity.
      * Checks if the internship is already full (filled slots >= max slots).
-     * Filled slots include Confirmed, Successful, and Withdrawal Requested applications.
+     * Filled slots are read from the opportunity's live counters; see
+     * {@link InternshipOpportunity#getFilledSlots()}.
+     * The checks on the student's own applications and the insert run under
+     * the student's lock stripe, so two sessions of one student cannot both
+     * pass the limit, while different students apply in parallel.
      *
      * @param studentId the ID of the student
      * @param opportunityId the ID of the internship opportunity
@@ -55,30 +63,33 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
             return OperationResult.failure(student.getIneligibilityReason(opp));
         }
 
+        synchronized (lockFor(student)) {
+            return admit(student, opp);
+        }
+    }
+
+    private OperationResult admit(Student student, InternshipOpportunity opp) {
+        String studentId = student.getUserID();
+        String opportunityId = opp.getOpportunityID();
         int activeCount = getActiveApplicationCount(studentId);
         if (activeCount >= MAX_ACTIVE_APPLICATIONS) {
             return OperationResult.failure("You already have " + activeCount + " active applications (max " + MAX_ACTIVE_APPLICATIONS + ").");
         }
 
-        boolean hasConfirmed = applicationRepository.getAllApplications().stream()
-            .anyMatch(a -> a.getApplicant().getUserID().equals(studentId) && a.getStatusEnum() == ApplicationStatus.CONFIRMED);
+        List<Application> studentApps = applicationRepository.getApplicationsByStudent(studentId);
+        boolean hasConfirmed = studentApps.stream()
+            .anyMatch(a -> a.getStatusEnum() == ApplicationStatus.CONFIRMED);
         if (hasConfirmed) {
             return OperationResult.failure("Student already has a confirmed internship.");
         }
 
-        boolean alreadyApplied = applicationRepository.getAllApplications().stream()
-            .anyMatch(a -> a.getApplicant().getUserID().equals(studentId) && a.getOpportunity().getOpportunityID().equals(opportunityId));
+        boolean alreadyApplied = studentApps.stream()
+            .anyMatch(a -> a.getOpportunity().getOpportunityID().equals(opportunityId));
         if (alreadyApplied) {
             return OperationResult.failure("Student has already applied to this internship.");
         }
 
-        long filled = applicationRepository.getAllApplications().stream()
-            .filter(a -> a.getOpportunity().getOpportunityID().equals(opportunityId))
-            .filter(a -> a.getStatusEnum() == ApplicationStatus.CONFIRMED ||
-                         a.getStatusEnum() == ApplicationStatus.SUCCESSFUL ||
-                         a.getStatusEnum() == ApplicationStatus.WITHDRAWAL_REQUESTED)
-            .count();
-        if (filled >= opp.getMaxSlots()) {
+        if (opp.isFull()) {
             return OperationResult.failure("Internship is already full.");
         }
 
@@ -89,22 +100,29 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
             ApplicationStatus.PENDING
         );
         applicationRepository.addApplication(app);
-        applicationRepository.saveApplications();
         return OperationResult.success("Application submitted successfully.");
     }
 
     /**
      * Approves an application, changing its status to Accepted.
+     * An application that does not already hold a slot is only approved if
+     * a slot can be reserved for it.
      *
      * @param applicationId the ID of the application
      */
     @Override
     public void approveApplication(String applicationId) {
         Application app = applicationRepository.getApplicationById(applicationId);
-        if (app != null) {
+        if (app == null) {
+            return;
+        }
+        ApplicationStatus current = app.getStatusEnum();
+        if (current.holdsSlot()) {
             app.updateStatus(ApplicationStatus.SUCCESSFUL);
-            applicationRepository.saveApplications();
+        } else if (!grantSlot(app, current)) {
+            return;
         }
+        applicationRepository.saveApplications();
     }
 
     /**
@@ -123,6 +141,8 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
 
     /**
      * Accepts an internship offer, confirming the application and withdrawing others.
+     * Runs under the student's lock stripe, like applying, since it reads and
+     * withdraws the student's other applications.
      *
      * @param studentId the student requesting acceptance
      * @param applicationId the ID of the application
@@ -136,6 +156,13 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
             return OperationResult.failure(validationError);
         }
 
+        synchronized (lockFor(application.getApplicant())) {
+            return confirm(application, studentId);
+        }
+    }
+
+    private OperationResult confirm(Application application, String studentId) {
+        String applicationId = application.getApplicationID();
         InternshipOpportunity opportunity = application.getOpportunity();
         List<Application> studentApps = getApplicationsForStudent(studentId);
 
@@ -144,11 +171,14 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
             return OperationResult.failure(overlapError);
         }
 
-        if (isInternshipFull(opportunity, applicationId)) {
+        if (isInternshipFull(opportunity)) {
             return OperationResult.failure("Cannot accept: internship is already full.");
         }
 
-        application.updateStatus(ApplicationStatus.CONFIRMED);
+        // The offer already holds its slot; confirming it only has to win against a concurrent decision
+        if (!application.updateStatusIf(ApplicationStatus.SUCCESSFUL, ApplicationStatus.CONFIRMED)) {
+            return OperationResult.failure("Cannot accept: the offer is no longer available.");
+        }
         int withdrawnCount = withdrawOverlappingApplications(studentApps, applicationId, opportunity);
         updateOpportunityStatusIfFilled(opportunity);
 
@@ -206,9 +236,7 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
      */
     @Override
     public java.util.List<Application> getAllApplicationsForStudent(String studentId) {
-        return applicationRepository.getAllApplications().stream()
-            .filter(a -> a.getApplicant().getUserID().equals(studentId))
-            .toList();
+        return applicationRepository.getApplicationsByStudent(studentId);
     }
 
     /**
@@ -219,9 +247,7 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
      */
     @Override
     public java.util.List<Application> getAllApplicationsForInternship(String opportunityId) {
-        return applicationRepository.getAllApplications().stream()
-            .filter(a -> a.getOpportunity().getOpportunityID().equals(opportunityId))
-            .toList();
+        return applicationRepository.getApplicationsByOpportunity(opportunityId);
     }
 
     /**
@@ -232,9 +258,7 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
      */
     @Override
     public List<Application> getApplicationsForStudent(String studentId) {
-        return applicationRepository.getAllApplications().stream()
-            .filter(a -> a.getApplicant().getUserID().equals(studentId))
-            .toList();
+        return applicationRepository.getApplicationsByStudent(studentId);
     }
 
     /**
@@ -245,9 +269,7 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
      */
     @Override
     public List<Application> getApplicationsForCompanyRep(String repId) {
-        return applicationRepository.getAllApplications().stream()
-            .filter(a -> a.getOpportunity().getCreatedBy().getUserID().equals(repId))
-            .toList();
+        return applicationRepository.getApplicationsByCompanyRep(repId);
     }
 
     /**
@@ -259,9 +281,8 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
      */
     @Override
     public List<Application> getApplicationsForCompanyRepOpportunity(String repId, String opportunityId) {
-        return applicationRepository.getAllApplications().stream()
-            .filter(a -> a.getOpportunity().getCreatedBy().getUserID().equals(repId) &&
-                       a.getOpportunity().getOpportunityID().equals(opportunityId))
+        return applicationRepository.getApplicationsByOpportunity(opportunityId).stream()
+            .filter(a -> a.getOpportunity().getCreatedBy().getUserID().equalsIgnoreCase(repId))
             .toList();
     }
 
@@ -277,22 +298,15 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
     public boolean processApplication(String repId, String applicationId, boolean approve) {
         Application target = applicationRepository.getApplicationById(applicationId);
         if (target != null &&
-            target.getOpportunity().getCreatedBy().getUserID().equals(repId) &&
+            target.getOpportunity().getCreatedBy().getUserID().equalsIgnoreCase(repId) &&
             target.getStatusEnum() == ApplicationStatus.PENDING) {
 
             if (approve) {
-                // Check slot limit before approving
-                InternshipOpportunity opp = target.getOpportunity();
-                long filledSlots = applicationRepository.getAllApplications().stream()
-                    .filter(a -> a.getOpportunity().getOpportunityID().equals(opp.getOpportunityID()) &&
-                           (a.getStatusEnum() == ApplicationStatus.SUCCESSFUL || a.getStatusEnum() == ApplicationStatus.CONFIRMED))
-                    .count();
-                if (filledSlots >= opp.getMaxSlots()) {
-                    return false; // Cannot approve - slots are full
+                if (!grantSlot(target, ApplicationStatus.PENDING)) {
+                    return false; // Cannot approve - slots are full or the application was already decided
                 }
-                target.updateStatus(ApplicationStatus.SUCCESSFUL);
-            } else {
-                target.updateStatus(ApplicationStatus.UNSUCCESSFUL);
+            } else if (!target.updateStatusIf(ApplicationStatus.PENDING, ApplicationStatus.UNSUCCESSFUL)) {
+                return false; // Decided concurrently
             }
 
             applicationRepository.saveApplications();
@@ -302,6 +316,31 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
         return false;
     }
 
+    /**
+     * Gets the number of filled slots of an internship from its live counters.
+     *
+     * @param opportunityId the opportunity ID
+     * @return the filled slot count, or 0 if the internship does not exist
+     */
+    @Override
+    public int getFilledSlots(String opportunityId) {
+        InternshipOpportunity opp = internshipRepository.getInternshipById(opportunityId);
+        return opp == null ? 0 : opp.getFilledSlots();
+    }
+
+    /**
+     * Gets the number of applications for an internship in a status from its live counters.
+     *
+     * @param opportunityId the opportunity ID
+     * @param status the application status
+     * @return the count, or 0 if the internship does not exist
+     */
+    @Override
+    public int getApplicationCount(String opportunityId, ApplicationStatus status) {
+        InternshipOpportunity opp = internshipRepository.getInternshipById(opportunityId);
+        return opp == null ? 0 : opp.getApplicationCount(status);
+    }
+
     /**
      * Gets applications for a specific internship opportunity.
      *
@@ -310,9 +349,7 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
      */
     @Override
     public List<Application> getApplicationsForInternship(String opportunityId) {
-        return applicationRepository.getAllApplications().stream()
-            .filter(a -> a.getOpportunity().getOpportunityID().equals(opportunityId))
-            .toList();
+        return applicationRepository.getApplicationsByOpportunity(opportunityId);
     }
 
     /**
@@ -363,15 +400,9 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
         return hasOverlap ? "Cannot accept: overlaps with another confirmed internship." : null;
     }
 
-    private boolean isInternshipFull(InternshipOpportunity opportunity, String targetApplicationId) {
-        long filledCount = applicationRepository.getAllApplications().stream()
-            .filter(app -> app.getOpportunity().getOpportunityID().equals(opportunity.getOpportunityID()))
-            .filter(app -> !app.getApplicationID().equals(targetApplicationId))
-            .filter(app -> app.getStatusEnum() == ApplicationStatus.CONFIRMED ||
-                           app.getStatusEnum() == ApplicationStatus.SUCCESSFUL ||
-                           app.getStatusEnum() == ApplicationStatus.WITHDRAWAL_REQUESTED)
-            .count();
-        return filledCount >= opportunity.getMaxSlots();
+    private boolean isInternshipFull(InternshipOpportunity opportunity) {
+        // The application being accepted is Successful and already holds one of the filled slots
+        return opportunity.getFilledSlots() - 1 >= opportunity.getMaxSlots();
     }
 
     private int withdrawOverlappingApplications(List<Application> studentApps, String acceptedApplicationId, InternshipOpportunity acceptedOpportunity) {
@@ -396,27 +427,47 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
         return datesOverlap(acceptedOpportunity, app.getOpportunity());
     }
 
+    private static Object[] newStripes(int count) {
+        Object[] stripes = new Object[Math.max(1, count)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Object();
+        }
+        return stripes;
+    }
+
+    private static Object lockFor(Student student) {
+        // Hash the ID the way user lookups match it, so every alias of one student shares a stripe
+        int hash = student.getUserID().toUpperCase(Locale.ROOT).hashCode();
+        return STUDENT_LOCKS[Math.floorMod(hash ^ (hash >>> 16), STUDENT_LOCKS.length)];
+    }
+
+    private boolean grantSlot(Application app, ApplicationStatus expected) {
+        // Reserve first so the capacity check and the status change cannot be split by a concurrent approval
+        InternshipOpportunity opportunity = app.getOpportunity();
+        if (!opportunity.tryReserveSlot()) {
+            return false;
+        }
+        if (app.updateStatusWithReservedSlot(expected, ApplicationStatus.SUCCESSFUL)) {
+            return true; // the reservation is now the application's slot
+        }
+        opportunity.releaseSlot();
+        return false;
+    }
+
     private void updateOpportunityStatusIfFilled(InternshipOpportunity opportunity) {
-        long confirmedCount = applicationRepository.getAllApplications().stream()
-            .filter(app -> app.getOpportunity().getOpportunityID().equals(opportunity.getOpportunityID()))
-            .filter(app -> app.getStatusEnum() == ApplicationStatus.CONFIRMED)
-            .count();
-        if (confirmedCount >= opportunity.getMaxSlots()) {
+        // Only confirmed placements close the listing; Successful offers may still be declined
+        if (opportunity.getApplicationCount(ApplicationStatus.CONFIRMED) >= opportunity.getMaxSlots()) {
             opportunity.setStatus(InternshipOpportunity.STATUS_FILLED);
         }
     }
 
     private boolean datesOverlap(InternshipOpportunity first, InternshipOpportunity second) {
-        Date start1 = first.getOpeningDate();
-        Date end1 = first.getClosingDate();
-        Date start2 = second.getOpeningDate();
-        Date end2 = second.getClosingDate();
-        return !start1.after(end2) && !start2.after(end1);
+        return first.getOpeningTime() <= second.getClosingTime()
+            && second.getOpeningTime() <= first.getClosingTime();
     }
 
     private int getActiveApplicationCount(String studentId) {
-        return (int) applicationRepository.getAllApplications().stream()
-            .filter(app -> app.getApplicant().getUserID().equals(studentId))
+        return (int) applicationRepository.getApplicationsByStudent(studentId).stream()
             .filter(app -> app.getStatusEnum() != ApplicationStatus.WITHDRAWN)
             .filter(app -> app.getStatusEnum() != ApplicationStatus.UNSUCCESSFUL)
             .count();
@@ -433,9 +484,6 @@ public class ApplicationService implements IApplicationService, IStudentApplicat
         if (user == null || !user.isStudent()) {
             return List.of();
         }
-        Student student = user.asStudent();
-        return internshipRepository.getAllInternships().stream()
-            .filter(i -> i.isVisible() && i.getStatus().equals(InternshipOpportunity.STATUS_APPROVED) && student.isEligibleForInternship(i))
-            .toList();
+        return eligibilityIndex.getEligibleInternships(user.asStudent());
     }
 }
\ No newline at end of file
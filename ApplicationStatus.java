@@ -17,6 +17,10 @@ public enum ApplicationStatus {
         return label;
     }
 
+    public boolean holdsSlot() {
+        return this == SUCCESSFUL || this == CONFIRMED || this == WITHDRAWAL_REQUESTED;
+    }
+
     @Override
     public String toString() {
         return label;
@@ -8,7 +8,7 @@ import java.util.Map;
  */
 public class CareerCenterStaff extends User {
     private final String staffDepartment;
-    private final IUserRepository userRepository;
+    private IUserRepository userRepository;
     private IInternshipRepository internshipRepository;
     private IApplicationRepository applicationRepository;
 
@@ -72,6 +72,15 @@ public class CareerCenterStaff extends User {
 
     }
 
+    /**
+     * Sets the user repository.
+     *
+     * @param userRepository the user repository
+     */
+    public void setUserRepository(IUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
     /**
      * Sets the internship repository.
      *
@@ -179,14 +188,7 @@ public class CareerCenterStaff extends User {
      * @return list of applications with withdrawal requests
      */
     public List<Application> getWithdrawalRequests() {
-        List<Application> withdrawalRequests = new ArrayList<>();
-        List<Application> allApplications = applicationRepository.getAllApplications();
-        for (Application app : allApplications) {
-            if (app.getStatusEnum() == ApplicationStatus.WITHDRAWAL_REQUESTED) {
-                withdrawalRequests.add(app);
-            }
-        }
-        return withdrawalRequests;
+        return applicationRepository.getApplicationsByStatus(ApplicationStatus.WITHDRAWAL_REQUESTED);
     }
 
     /**
@@ -212,9 +214,8 @@ public class CareerCenterStaff extends User {
                 
                 // Withdraw all other pending/successful applications for this student
                 Student student = application.getApplicant();
-                for (Application app : applicationRepository.getAllApplications()) {
-                    if (app.getApplicant().getUserID().equals(student.getUserID()) &&
-                        !app.getApplicationID().equals(applicationID) &&
+                for (Application app : applicationRepository.getApplicationsByStudent(student.getUserID())) {
+                    if (!app.getApplicationID().equals(applicationID) &&
                         (app.getStatusEnum() == ApplicationStatus.PENDING ||
                          app.getStatusEnum() == ApplicationStatus.SUCCESSFUL)) {
                         app.updateStatus(ApplicationStatus.WITHDRAWN);
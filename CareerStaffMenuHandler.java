@@ -13,6 +13,7 @@ public class CareerStaffMenuHandler implements IMenuHandler {
     private final IApplicationService applicationService;
     private final Scanner scanner;
     private final FilterManager filterManager;
+    private boolean loggedOut = false;
 
     /**
      * Constructs a CareerStaffMenuHandler.
@@ -32,6 +33,11 @@ public class CareerStaffMenuHandler implements IMenuHandler {
         this.filterManager = new FilterManager(scanner);
     }
 
+    @Override
+    public boolean isLoggedOut() {
+        return loggedOut;
+    }
+
     /**
      * Displays the menu and handles user choices.
      */
@@ -361,26 +367,28 @@ public class CareerStaffMenuHandler implements IMenuHandler {
         }
 
         List<InternshipOpportunity> allInternships = internshipService.getAllInternships();
-        allInternships = filterManager.getFilterSettings().applyFilters(allInternships);
+        allInternships = filterManager.getFilterSettings().applyFilters(allInternships, internshipService.getInternshipRepository());
 
         if (allInternships.isEmpty()) {
             UIHelper.printWarningMessage("No internships match your filters.");
         } else {
-            for (InternshipOpportunity internship : allInternships) {
-                System.out.println("ID: " + internship.getOpportunityID());
-                System.out.println("Title: " + internship.getTitle());
-                System.out.println("Company: " + internship.getCreatedBy().getCompanyName());
-                System.out.println("Level: " + internship.getLevel());
-                System.out.println("Preferred Major: " + internship.getPreferredMajor());
-                System.out.println("Min GPA: " + internship.getMinGPA());
-                System.out.println("Status: " + internship.getStatus());
-                System.out.println("Closing Date: " + internship.getClosingDate());
-                System.out.println("Visible: " + (internship.isVisible() ? "Yes" : "No"));
-                System.out.println("-------------------");
-            }
+            UIHelper.printPaged(allInternships, this::printInternshipSummary, scanner);
         }
     }
 
+    private void printInternshipSummary(ConsoleRenderer screen, InternshipOpportunity internship) {
+        screen.line("ID: " + internship.getOpportunityID());
+        screen.line("Title: " + internship.getTitle());
+        screen.line("Company: " + internship.getCreatedBy().getCompanyName());
+        screen.line("Level: " + internship.getLevel());
+        screen.line("Preferred Major: " + internship.getPreferredMajor());
+        screen.line("Min GPA: " + internship.getMinGPA());
+        screen.line("Status: " + internship.getStatus());
+        screen.line("Closing Date: " + internship.getClosingDate());
+        screen.line("Visible: " + (internship.isVisible() ? "Yes" : "No"));
+        screen.line("-------------------");
+    }
+
     private void generateReports() {
         UIHelper.printSectionHeader("GENERATE REPORTS");
 
@@ -408,12 +416,12 @@ public class CareerStaffMenuHandler implements IMenuHandler {
         reportManager.initialize(internshipService.getInternshipRepository(), applicationService.getApplicationRepository());
         
         Report report = reportManager.generateReport(filters);
-        reportManager.displayDetailedReport(report);
+        reportManager.displayDetailedReport(report, scanner);
 
         // Show summary statistics
         System.out.println("\n=== SYSTEM STATISTICS ===");
-        Map<String, Integer> appStats = reportManager.getApplicationStatistics();
-        Map<String, Integer> intStats = reportManager.getInternshipStatistics();
+        Map<String, Integer> appStats = reportManager.getApplicationStatistics(report);
+        Map<String, Integer> intStats = reportManager.getInternshipStatistics(report);
 
         System.out.println("Applications:");
         for (Map.Entry<String, Integer> entry : appStats.entrySet()) {
@@ -474,5 +482,6 @@ public class CareerStaffMenuHandler implements IMenuHandler {
     private void logout() {
         UIHelper.printSuccessMessage("Logged out successfully!");
         staff.logout();
+        loggedOut = true;
     }
 }
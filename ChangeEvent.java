@@ -0,0 +1,151 @@
+/**
+ * Describes one change to a repository entity, as published on a {@link ChangeEventBus}.
+ * Created and removed events carry only the entity; status changes and field
+ * updates also carry the property name and its values before and after.
+ *
+ * @param <T> the entity type
+ */
+public final class ChangeEvent<T> {
+    /**
+     * What happened to the entity.
+     */
+    public enum Kind {
+        /** The entity was added to its repository. */
+        CREATED,
+        /** The status of the entity changed. */
+        STATUS_CHANGED,
+        /** Some other field of the entity changed. */
+        UPDATED,
+        /** The entity was removed from its repository. */
+        REMOVED
+    }
+
+    private final Kind kind;
+    private final Class<T> type;
+    private final T entity;
+    private final String property;
+    private final Object before;
+    private final Object after;
+
+    private ChangeEvent(Kind kind, Class<T> type, T entity, String property, Object before, Object after) {
+        this.kind = kind;
+        this.type = type;
+        this.entity = entity;
+        this.property = property;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Creates an event for an entity added to its repository.
+     *
+     * @param type the entity type subscribers listen for
+     * @param entity the added entity
+     * @param <T> the entity type
+     * @return the event
+     */
+    public static <T> ChangeEvent<T> created(Class<T> type, T entity) {
+        return new ChangeEvent<>(Kind.CREATED, type, entity, null, null, null);
+    }
+
+    /**
+     * Creates an event for an entity removed from its repository.
+     *
+     * @param type the entity type subscribers listen for
+     * @param entity the removed entity
+     * @param <T> the entity type
+     * @return the event
+     */
+    public static <T> ChangeEvent<T> removed(Class<T> type, T entity) {
+        return new ChangeEvent<>(Kind.REMOVED, type, entity, null, null, null);
+    }
+
+    /**
+     * Creates an event for a status change.
+     *
+     * @param type the entity type subscribers listen for
+     * @param entity the entity
+     * @param before the status before the change
+     * @param after the status after the change
+     * @param <T> the entity type
+     * @return the event
+     */
+    public static <T> ChangeEvent<T> statusChanged(Class<T> type, T entity, Object before, Object after) {
+        return new ChangeEvent<>(Kind.STATUS_CHANGED, type, entity, "status", before, after);
+    }
+
+    /**
+     * Creates an event for a change to a field other than the status.
+     *
+     * @param type the entity type subscribers listen for
+     * @param entity the entity
+     * @param property the name of the changed field
+     * @param before the value before the change
+     * @param after the value after the change
+     * @param <T> the entity type
+     * @return the event
+     */
+    public static <T> ChangeEvent<T> updated(Class<T> type, T entity, String property, Object before, Object after) {
+        return new ChangeEvent<>(Kind.UPDATED, type, entity, property, before, after);
+    }
+
+    /**
+     * Gets what happened to the entity.
+     *
+     * @return the event kind
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the entity type subscribers listen for.
+     *
+     * @return the entity type
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Gets the changed entity.
+     *
+     * @return the entity
+     */
+    public T getEntity() {
+        return entity;
+    }
+
+    /**
+     * Gets the name of the changed field.
+     *
+     * @return the property name, or null for created and removed events
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Gets the value of the changed field before the change.
+     *
+     * @return the old value, or null for created and removed events
+     */
+    public Object getBefore() {
+        return before;
+    }
+
+    /**
+     * Gets the value of the changed field after the change.
+     *
+     * @return the new value, or null for created and removed events
+     */
+    public Object getAfter() {
+        return after;
+    }
+
+    @Override
+    public String toString() {
+        String name = type.getSimpleName() + " " + kind;
+        return property == null ? name : name + " " + property + ": " + before + " -> " + after;
+    }
+}
@@ -0,0 +1,149 @@
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * In-process bus on which the repositories publish {@link ChangeEvent}s.
+ * Synchronous subscribers run on the publishing thread before publish
+ * returns, so they see every change in order and before the caller moves on.
+ * Asynchronous subscribers run on a single background thread, in publish
+ * order, so slow work never holds up the thread that made the change.
+ */
+public class ChangeEventBus {
+    /**
+     * Handle for cancelling a subscription.
+     */
+    public interface Subscription {
+        /**
+         * Stops delivering events to the subscriber.
+         */
+        void cancel();
+    }
+
+    private final Map<Class<?>, List<Subscriber<?>>> subscribers = new ConcurrentHashMap<>();
+    private ExecutorService asyncExecutor; // created on the first asynchronous subscription
+    private boolean shutdown = false;
+
+    /**
+     * Subscribes to events for an entity type, delivered on the publishing thread.
+     *
+     * @param type the entity type
+     * @param subscriber the subscriber
+     * @param <T> the entity type
+     * @return the subscription
+     */
+    public <T> Subscription subscribe(Class<T> type, Consumer<? super ChangeEvent<T>> subscriber) {
+        return register(type, new Subscriber<>(subscriber, false));
+    }
+
+    /**
+     * Subscribes to events for an entity type, delivered on the bus's background thread.
+     *
+     * @param type the entity type
+     * @param subscriber the subscriber
+     * @param <T> the entity type
+     * @return the subscription
+     */
+    public <T> Subscription subscribeAsync(Class<T> type, Consumer<? super ChangeEvent<T>> subscriber) {
+        synchronized (this) {
+            if (asyncExecutor == null && !shutdown) {
+                asyncExecutor = Executors.newSingleThreadExecutor(r -> {
+                    Thread thread = new Thread(r, "change-events");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+        return register(type, new Subscriber<>(subscriber, true));
+    }
+
+    private <T> Subscription register(Class<T> type, Subscriber<T> subscriber) {
+        List<Subscriber<?>> list = subscribers.computeIfAbsent(type, k -> new CopyOnWriteArrayList<>());
+        list.add(subscriber);
+        return () -> list.remove(subscriber);
+    }
+
+    /**
+     * Publishes an event to the subscribers of its entity type.
+     *
+     * @param event the event
+     * @param <T> the entity type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void publish(ChangeEvent<T> event) {
+        List<Subscriber<?>> list = subscribers.get(event.getType());
+        if (list == null) {
+            return;
+        }
+        for (Subscriber<?> subscriber : list) {
+            Subscriber<T> typed = (Subscriber<T>) subscriber;
+            if (typed.async) {
+                dispatchAsync(typed, event);
+            } else {
+                deliver(typed, event);
+            }
+        }
+    }
+
+    private <T> void dispatchAsync(Subscriber<T> subscriber, ChangeEvent<T> event) {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = asyncExecutor;
+        }
+        if (executor == null) {
+            return; // bus shut down
+        }
+        try {
+            executor.execute(() -> deliver(subscriber, event));
+        } catch (RejectedExecutionException e) {
+            // bus shut down concurrently; the event is dropped like any other after shutdown
+        }
+    }
+
+    private static <T> void deliver(Subscriber<T> subscriber, ChangeEvent<T> event) {
+        try {
+            subscriber.consumer.accept(event);
+        } catch (RuntimeException e) {
+            System.err.println("Error handling " + event + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Delivers the asynchronous events already published and stops the
+     * background thread. Later asynchronous events are dropped; synchronous
+     * subscribers keep working.
+     */
+    public void shutdown() {
+        ExecutorService executor;
+        synchronized (this) {
+            shutdown = true;
+            executor = asyncExecutor;
+            asyncExecutor = null;
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Subscriber<T> {
+        private final Consumer<? super ChangeEvent<T>> consumer;
+        private final boolean async;
+
+        private Subscriber(Consumer<? super ChangeEvent<T>> consumer, boolean async) {
+            this.consumer = consumer;
+            this.async = async;
+        }
+    }
+}
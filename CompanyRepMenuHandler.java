@@ -13,9 +13,11 @@ public class CompanyRepMenuHandler implements IMenuHandler {
     private final CompanyRepresentative rep;
     private final IInternshipService internshipService;
     private final IApplicationService applicationService;
+    private final ICompanyRepApplicationService repApplicationService;
     private final IUserService userService;
     private final Scanner scanner;
     private final FilterManager filterManager;
+    private boolean loggedOut = false;
 
     /**
      * Constructs a CompanyRepMenuHandler with customized FilterManager for company reps.
@@ -24,19 +26,27 @@ public class CompanyRepMenuHandler implements IMenuHandler {
      * @param rep                the company representative
      * @param internshipService  the internship service
      * @param applicationService the application service
+     * @param repApplicationService the company representative application service, for slot counts
      * @param userService        the user service
      * @param scanner            the scanner for input
      */
         public CompanyRepMenuHandler(CompanyRepresentative rep, IInternshipService internshipService,
-            IApplicationService applicationService, IUserService userService, Scanner scanner) {
+            IApplicationService applicationService, ICompanyRepApplicationService repApplicationService,
+            IUserService userService, Scanner scanner) {
         this.rep = rep;
         this.internshipService = internshipService;
         this.applicationService = applicationService;
+        this.repApplicationService = repApplicationService;
         this.userService = userService;
         this.scanner = scanner;
         this.filterManager = new FilterManager(scanner, "companyrep");
     }
 
+    @Override
+    public boolean isLoggedOut() {
+        return loggedOut;
+    }
+
     /**
      * Displays the menu and handles user choices.
      */
@@ -393,7 +403,7 @@ public class CompanyRepMenuHandler implements IMenuHandler {
         if (!closingDateStr.isEmpty()) {
             try {
                 Date closingDate = dateFormat.parse(closingDateStr);
-                if (closingDate.after(opp.getOpeningDate())) {
+                if (closingDate.getTime() > opp.getOpeningTime()) {
                     opp.setClosingDate(closingDate);
                 } else {
                     UIHelper.printErrorMessage("Closing date must be after opening date. Keeping current value.");
@@ -537,13 +547,9 @@ public class CompanyRepMenuHandler implements IMenuHandler {
             System.out.println("\nYour Internships:");
             int index = 1;
             for (InternshipOpportunity opp : myInternships) {
-                // Count Confirmed, Successful, and Withdrawal Requested as filled slots
-                long filledSlots = applicationService.getApplicationsForInternship(opp.getOpportunityID()).stream()
-                        .filter(app -> app.getStatusEnum() == ApplicationStatus.CONFIRMED || app.getStatusEnum() == ApplicationStatus.SUCCESSFUL || app.getStatusEnum() == ApplicationStatus.WITHDRAWAL_REQUESTED)
-                        .count();
-                long pendingCount = applicationService.getApplicationsForInternship(opp.getOpportunityID()).stream()
-                        .filter(app -> app.getStatusEnum() == ApplicationStatus.PENDING)
-                        .count();
+                // Confirmed, Successful, and Withdrawal Requested applications fill slots
+                int filledSlots = repApplicationService.getFilledSlots(opp.getOpportunityID());
+                int pendingCount = repApplicationService.getApplicationCount(opp.getOpportunityID(), ApplicationStatus.PENDING);
 
                 System.out.println(index + ". [" + opp.getOpportunityID() + "] " + opp.getTitle());
                 System.out.println("   Slots: " + filledSlots + "/" + opp.getMaxSlots() + " filled" +
@@ -600,23 +606,15 @@ public class CompanyRepMenuHandler implements IMenuHandler {
 
             // Get counts - note: Confirmed = accepted by student, Successful = approved but
             // not accepted, Withdrawal Requested = pending withdrawal
-            long confirmedCount = applicationService.getApplicationsForInternship(opp.getOpportunityID()).stream()
-                    .filter(app -> app.getStatusEnum() == ApplicationStatus.CONFIRMED)
-                    .count();
-            long successfulCount = applicationService.getApplicationsForInternship(opp.getOpportunityID()).stream()
-                    .filter(app -> app.getStatusEnum() == ApplicationStatus.SUCCESSFUL)
-                    .count();
-            long withdrawalRequestedCount = applicationService.getApplicationsForInternship(opp.getOpportunityID()).stream()
-                    .filter(app -> app.getStatusEnum() == ApplicationStatus.WITHDRAWAL_REQUESTED)
-                    .count();
-            long pendingCount = applicationService.getApplicationsForInternship(opp.getOpportunityID()).stream()
-                    .filter(app -> app.getStatusEnum() == ApplicationStatus.PENDING)
-                    .count();
+            String opportunityId = opp.getOpportunityID();
+            int confirmedCount = repApplicationService.getApplicationCount(opportunityId, ApplicationStatus.CONFIRMED);
+            int successfulCount = repApplicationService.getApplicationCount(opportunityId, ApplicationStatus.SUCCESSFUL);
+            int withdrawalRequestedCount = repApplicationService.getApplicationCount(opportunityId, ApplicationStatus.WITHDRAWAL_REQUESTED);
+            int pendingCount = repApplicationService.getApplicationCount(opportunityId, ApplicationStatus.PENDING);
 
             // Available slots = max - (confirmed + successful + withdrawal requested)
-            long filledSlots = confirmedCount + successfulCount + withdrawalRequestedCount;
-            filledSlots = Math.min(filledSlots, opp.getMaxSlots()); // Cap at max slots to prevent display of overfilled
-            int availableSlots = (int) (opp.getMaxSlots() - filledSlots);
+            int filledSlots = Math.min(repApplicationService.getFilledSlots(opportunityId), opp.getMaxSlots()); // Cap at max slots to prevent display of overfilled
+            int availableSlots = opp.getMaxSlots() - filledSlots;
 
             System.out.println("Slots: " + filledSlots + "/" + opp.getMaxSlots() +
                     " (" + confirmedCount + " confirmed, " + successfulCount + " awaiting acceptance, " + withdrawalRequestedCount + " withdrawal pending)" +
@@ -683,11 +681,7 @@ public class CompanyRepMenuHandler implements IMenuHandler {
         System.out.println("      Applications will be accepted up to the available slot limit.");
 
         // Calculate available slots
-        long filledSlots = applicationService.getApplicationRepository().getAllApplications().stream()
-            .filter(a -> a.getOpportunity().getOpportunityID().equals(opp.getOpportunityID()) &&
-                   (a.getStatus().equals("Successful") || a.getStatus().equals("Confirmed")))
-            .count();
-        int availableSlots = (int) (opp.getMaxSlots() - filledSlots);
+        int availableSlots = Math.max(0, opp.getMaxSlots() - repApplicationService.getFilledSlots(opp.getOpportunityID()));
 
         System.out.print("\nEnter Application IDs or numbers (space-separated, e.g., 1 2 or APP001 APP002): ");
         String input = scanner.nextLine().trim();
@@ -899,26 +893,28 @@ public class CompanyRepMenuHandler implements IMenuHandler {
         }
 
         List<InternshipOpportunity> allInternships = internshipService.getAllInternships();
-        allInternships = filterManager.getFilterSettings().applyFilters(allInternships);
+        allInternships = filterManager.getFilterSettings().applyFilters(allInternships, internshipService.getInternshipRepository());
 
         if (allInternships.isEmpty()) {
             UIHelper.printWarningMessage("No internships match your filters.");
         } else {
-            for (InternshipOpportunity internship : allInternships) {
-                System.out.println("ID: " + internship.getOpportunityID());
-                System.out.println("Title: " + internship.getTitle());
-                System.out.println("Company: " + internship.getCreatedBy().getCompanyName());
-                System.out.println("Level: " + internship.getLevel());
-                System.out.println("Preferred Major: " + internship.getPreferredMajor());
-                System.out.println("Min GPA: " + internship.getMinGPA());
-                System.out.println("Status: " + internship.getStatus());
-                System.out.println("Closing Date: " + internship.getClosingDate());
-                System.out.println("Visible: " + (internship.isVisible() ? "Yes" : "No"));
-                System.out.println("-------------------");
-            }
+            UIHelper.printPaged(allInternships, this::printInternshipSummary, scanner);
         }
     }
 
+    private void printInternshipSummary(ConsoleRenderer screen, InternshipOpportunity internship) {
+        screen.line("ID: " + internship.getOpportunityID());
+        screen.line("Title: " + internship.getTitle());
+        screen.line("Company: " + internship.getCreatedBy().getCompanyName());
+        screen.line("Level: " + internship.getLevel());
+        screen.line("Preferred Major: " + internship.getPreferredMajor());
+        screen.line("Min GPA: " + internship.getMinGPA());
+        screen.line("Status: " + internship.getStatus());
+        screen.line("Closing Date: " + internship.getClosingDate());
+        screen.line("Visible: " + (internship.isVisible() ? "Yes" : "No"));
+        screen.line("-------------------");
+    }
+
     private void changePassword() {
         System.out.println("\n=== CHANGE PASSWORD ===");
         System.out.print("Enter current password: ");
@@ -967,5 +963,6 @@ public class CompanyRepMenuHandler implements IMenuHandler {
     private void logout() {
         UIHelper.printSuccessMessage("Logged out successfully!");
         rep.logout();
+        loggedOut = true;
     }
 }
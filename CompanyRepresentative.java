@@ -175,9 +175,8 @@ public class CompanyRepresentative extends User {
      */
     public List<Application> getPendingApplications() {
         List<Application> pendingApplications = new ArrayList<>();
-        for (Application app : applicationRepository.getAllApplications()) {
-            if (app.getOpportunity().getCreatedBy().getUserID().equals(this.userID) &&
-                app.getStatusEnum() == ApplicationStatus.PENDING) {
+        for (Application app : applicationRepository.getApplicationsByCompanyRep(this.userID)) {
+            if (app.getStatusEnum() == ApplicationStatus.PENDING) {
                 pendingApplications.add(app);
             }
         }
@@ -209,18 +208,29 @@ public class CompanyRepresentative extends User {
      */
     public boolean isRejected() { return isRejected; }
 
+    /**
+     * Gets the account status as stored in the CSV file.
+     *
+     * @return "Approved", "Rejected" or "Pending"
+     */
+    public String getApprovalStatus() {
+        return isApproved ? "Approved" : (isRejected ? "Rejected" : "Pending");
+    }
+
     /**
      * Sets the approved status.
      *
      * @param approved true to approve
      */
     public void setApproved(boolean approved) {
+        String before = getApprovalStatus();
         if (approved) {
             this.isApproved = true;
             this.isRejected = false; // cannot be rejected if approved
         } else {
             this.isApproved = false;
         }
+        markModified("status", before, getApprovalStatus());
     }
 
     /**
@@ -229,12 +239,14 @@ public class CompanyRepresentative extends User {
      * @param rejected true to reject
      */
     public void setRejected(boolean rejected) {
+        String before = getApprovalStatus();
         if (rejected) {
             this.isRejected = true;
             this.isApproved = false; // cannot be approved if rejected
         } else {
             this.isRejected = false;
         }
+        markModified("status", before, getApprovalStatus());
     }
 
     @Override
@@ -0,0 +1,155 @@
+/**
+ * Builds one screen of console output in a reusable buffer and writes it to
+ * {@code System.out} in a single call, instead of one synchronized, flushing
+ * println per line. Screens may nest: a helper that renders into the screen
+ * its caller is building only writes once the outermost screen is emitted.
+ * <p>
+ * In plain mode, selected with {@code -Dipms.render=plain} or {@code --plain},
+ * box-drawing characters are written as ASCII so reports can be piped to files.
+ */
+public final class ConsoleRenderer implements AutoCloseable {
+    private static final int RETAINED_CAPACITY = 64 * 1024; // larger buffers are dropped after use
+    private static final ThreadLocal<ConsoleRenderer> CURRENT = ThreadLocal.withInitial(ConsoleRenderer::new);
+    private static volatile boolean plain = "plain".equalsIgnoreCase(System.getProperty("ipms.render", ""));
+
+    private StringBuilder buffer = new StringBuilder(1024);
+    private int depth; // screens begun and not yet emitted on this thread
+
+    private ConsoleRenderer() {}
+
+    /**
+     * Begins a screen on the current thread, or joins the screen already being built.
+     * Every call must be paired with {@link #emit()}; open the screen in a
+     * try-with-resources statement so it is emitted even if rendering throws.
+     *
+     * @return the renderer to append to
+     */
+    public static ConsoleRenderer begin() {
+        ConsoleRenderer renderer = CURRENT.get();
+        renderer.depth++;
+        return renderer;
+    }
+
+    /**
+     * Drops any screen left unfinished on the current thread, e.g. by a
+     * session whose input ended while a screen was being built. The main
+     * loop calls this before each menu so one broken screen cannot hold back
+     * all later output.
+     */
+    public static void reset() {
+        ConsoleRenderer renderer = CURRENT.get();
+        renderer.depth = 0;
+        renderer.buffer = new StringBuilder(1024);
+    }
+
+    /**
+     * Checks if box-drawing characters are written as ASCII.
+     *
+     * @return true in plain mode
+     */
+    public static boolean isPlain() {
+        return plain;
+    }
+
+    /**
+     * Turns plain mode on or off.
+     *
+     * @param plain true to write box-drawing characters as ASCII
+     */
+    public static void setPlain(boolean plain) {
+        ConsoleRenderer.plain = plain;
+    }
+
+    /**
+     * Appends a line.
+     *
+     * @param text the line without its terminator
+     * @return this renderer
+     */
+    public ConsoleRenderer line(String text) {
+        buffer.append(text).append(System.lineSeparator());
+        return this;
+    }
+
+    /**
+     * Appends an empty line.
+     *
+     * @return this renderer
+     */
+    public ConsoleRenderer line() {
+        buffer.append(System.lineSeparator());
+        return this;
+    }
+
+    /**
+     * Appends text without ending the line, e.g. a prompt.
+     *
+     * @param text the text
+     * @return this renderer
+     */
+    public ConsoleRenderer text(String text) {
+        buffer.append(text);
+        return this;
+    }
+
+    /**
+     * Ends the screen begun by the matching {@link #begin()}. When the
+     * outermost screen ends, the buffer is written in one call and cleared.
+     */
+    public void emit() {
+        if (--depth > 0) {
+            return;
+        }
+        depth = 0;
+        if (buffer.length() > 0) {
+            if (plain) {
+                toPlain(buffer);
+            }
+            System.out.print(buffer);
+            System.out.flush();
+        }
+        if (buffer.capacity() > RETAINED_CAPACITY) {
+            buffer = new StringBuilder(1024);
+        } else {
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * Emits the screen, so a screen opened in a try-with-resources statement
+     * still ends if an exception escapes while it is being built.
+     */
+    @Override
+    public void close() {
+        emit();
+    }
+
+    /**
+     * Replaces box-drawing characters with ASCII in place.
+     *
+     * @param text the text to convert
+     */
+    private static void toPlain(StringBuilder text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '─' || c > '╿') {
+                continue; // outside the box-drawing block
+            }
+            switch (c) {
+                case '─':
+                    text.setCharAt(i, '-');
+                    break;
+                case '═':
+                    text.setCharAt(i, '=');
+                    break;
+                case '│':
+                case '║':
+                    text.setCharAt(i, '|');
+                    break;
+                default:
+                    text.setCharAt(i, '+'); // corners and junctions
+                    break;
+            }
+        }
+    }
+}
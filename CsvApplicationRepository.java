@@ -1,20 +1,55 @@
 import java.io.*;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * CSV-based repository implementation for managing applications.
  * Loads and saves application data to/from a CSV file.
+ * In journal mode, inserts and status changes are appended to a journal file
+ * and periodically compacted back into the CSV snapshot.
+ * <p>
+ * Every journal row carries the sequence number of the append that wrote it,
+ * and every snapshot row carries the last sequence number the snapshot
+ * covers. On startup, journal rows the snapshot already covers are skipped,
+ * so a journal left behind after a compaction cannot roll newer snapshot
+ * rows back.
  */
 public class CsvApplicationRepository implements IApplicationRepository {
-    private static final List<Application> applications = new ArrayList<>();
-    private static int applicationCounter = 1;
+    private static volatile Snapshot<Application> applications = Snapshot.empty(); // republished on every insert
+    private static final Map<String, Application> applicationsById = new ConcurrentHashMap<>(); // keyed by normalized ID; read without the lock
+    private static final Map<String, List<Application>> applicationsByStudent = new HashMap<>();
+    private static final Map<String, List<Application>> applicationsByOpportunity = new HashMap<>();
+    private static final Map<String, List<Application>> applicationsByCompanyRep = new HashMap<>();
+    private static final Map<ApplicationStatus, Set<Application>> applicationsByStatus = new EnumMap<>(ApplicationStatus.class);
+    private static final IApplicationStatusListener statusIndexUpdater = CsvApplicationRepository::onStatusChanged;
+    private static volatile ChangeEventBus eventBus = new ChangeEventBus();
+    private static final Set<Application> dirtyApplications = new LinkedHashSet<>(); // changed since last save
+    static final String APPLICATIONS_FILE = "data/applications.csv";
+    static final String JOURNAL_FILE = "data/applications.journal";
+    private static final String HEADER = "ApplicationID,StudentID,OpportunityID,Status,AppliedEpochMillis,ManuallyWithdrawn,PreviousStatus,JournalSeq";
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 1000; // records before the journal is folded into the snapshot
+    private static final RepositoryLock LOCK = new RepositoryLock(); // guards the indexes and the dirty set; the table is a published snapshot
+    private static final Object FILE_LOCK = new Object(); // serializes writes to the snapshot and journal files
+    private static final AtomicInteger applicationCounter = new AtomicInteger(1);
+    private static int journalRecords = 0; // guarded by FILE_LOCK
+    private static long journalSeq = 0; // sequence number of the last journal append, guarded by FILE_LOCK
     private IUserRepository userRepository;
     private IInternshipRepository internshipRepository;
-    private static final SimpleDateFormat dateFormat = new SimpleDateFormat("EEE MMM dd HH:mm:ss zzz yyyy");
+    private boolean journalEnabled = false;
+    private WriteBehindFlusher flusher;
+    private final Runnable writeTask = this::writeApplications;
 
     /**
      * Constructs a CsvApplicationRepository.
@@ -28,6 +63,24 @@ public class CsvApplicationRepository implements IApplicationRepository {
         loadApplications();
     }
 
+    /**
+     * Constructs a CsvApplicationRepository from rows that were already parsed,
+     * e.g. by a parallel bootstrap, instead of reading the files. Journal rows
+     * are replayed over the snapshot rows and the journal is then compacted.
+     *
+     * @param userRepository the user repository used to resolve students
+     * @param internshipRepository the internship repository used to resolve opportunities
+     * @param snapshotRows the parsed rows of the CSV snapshot
+     * @param journalRows the parsed rows of the journal
+     */
+    public CsvApplicationRepository(IUserRepository userRepository, IInternshipRepository internshipRepository,
+                                    List<ApplicationRow> snapshotRows, List<ApplicationRow> journalRows) {
+        this.userRepository = userRepository;
+        this.internshipRepository = internshipRepository;
+        clearIndexes();
+        installRows(snapshotRows, journalRows);
+    }
+
     /**
      * Sets the user repository and loads applications if possible.
      *
@@ -53,64 +106,252 @@ public class CsvApplicationRepository implements IApplicationRepository {
     }
 
     /**
-     * Loads applications from the CSV file.
+     * Enables or disables journal mode. When enabled, each insert and status
+     * change is appended to the journal instead of rewriting the whole CSV file.
+     *
+     * @param journalEnabled true to append changes to the journal
+     */
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    /**
+     * Sets the write-behind flusher. When set, saves are handed to the
+     * flusher instead of being written on the caller's thread.
+     *
+     * @param flusher the flusher, or null to write synchronously
+     */
+    public void setFlusher(WriteBehindFlusher flusher) {
+        this.flusher = flusher;
+    }
+
+    /**
+     * Loads applications from the CSV snapshot, replays any journal records on
+     * top of it, and compacts the journal if it had entries.
      */
     private void loadApplications() {
-        try {
-            File file = new File("data/applications.csv");
-            if (!file.exists()) {
-                return; // No file to load
-            }
-            BufferedReader reader = new BufferedReader(new FileReader(file));
-            String line = reader.readLine(); // Skip header
-            while ((line = reader.readLine()) != null && !line.trim().isEmpty()) {
-                String[] parts = line.split(",", -1); // Use -1 to preserve trailing empty fields
-                if (parts.length >= 5) {
-                    try {
-                        String appId = parts[0].trim();
-                        String studentId = parts[1].trim();
-                        String opportunityId = parts[2].trim();
-                        ApplicationStatus status = ApplicationStatus.fromLabel(parts[3].trim());
-                        Date appliedDate = dateFormat.parse(parts[4].trim());
-                        boolean manuallyWithdrawn = parts.length > 5 ? Boolean.parseBoolean(parts[5].trim()) : false;
-                        ApplicationStatus previousStatus = (parts.length > 6 && !parts[6].trim().isEmpty())
-                            ? ApplicationStatus.fromLabel(parts[6].trim())
-                            : null;
-
-                        User student = userRepository.getUserById(studentId);
-                        InternshipOpportunity internship = internshipRepository.getInternshipById(opportunityId);
-
-                        if (student.isStudent() && internship != null) {
-                            Application app = new Application(appId, student.asStudent(), internship, status, appliedDate);
-                            app.setManuallyWithdrawn(manuallyWithdrawn);
-                            app.setPreviousStatus(previousStatus);
-                            applications.add(app);
-                            
-                            // Update counter
-                            int id = Integer.parseInt(appId.substring(3));
-                            if (id >= applicationCounter) {
-                                applicationCounter = id + 1;
-                            }
-                        }
-                    } catch (ParseException | NumberFormatException e) {
-                        System.err.println("Error parsing application line: " + line);
-                    }
+        if (userRepository == null || internshipRepository == null) {
+            return; // References cannot be resolved yet
+        }
+        long start = System.nanoTime();
+        List<ApplicationRow> snapshotRows = readRows(new File(APPLICATIONS_FILE), true);
+        List<ApplicationRow> journalRows = readRows(new File(JOURNAL_FILE), false);
+        installRows(snapshotRows, journalRows);
+        UIHelper.printLoadTiming(APPLICATIONS_FILE + (journalRows.isEmpty() ? "" : " + journal"), applications.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Replays journal rows over snapshot rows, links each surviving row to its
+     * student and internship, and compacts the journal if it had entries.
+     * Journal rows whose sequence number the snapshot already covers are
+     * skipped. Students and internships are resolved against maps built once
+     * up front, so this is linear in the size of the three tables.
+     *
+     * @param snapshotRows the parsed snapshot rows
+     * @param journalRows the parsed journal rows, oldest first
+     */
+    private void installRows(List<ApplicationRow> snapshotRows, List<ApplicationRow> journalRows) {
+        // Later records for the same ID replace earlier ones but keep their original position
+        Map<String, ApplicationRow> rows = new LinkedHashMap<>();
+        long snapshotSeq = 0;
+        for (ApplicationRow row : snapshotRows) {
+            rows.put(normalizeId(row.appId), row);
+            snapshotSeq = Math.max(snapshotSeq, row.journalSeq);
+        }
+        // A journal written before sequence numbers were added is replayed in full;
+        // otherwise a row without one is the torn tail of a failed append
+        boolean sequenced = journalRows.stream().anyMatch(row -> row.journalSeq >= 0);
+        long lastSeq = snapshotSeq;
+        for (ApplicationRow row : journalRows) {
+            if (sequenced && row.journalSeq <= snapshotSeq) {
+                continue; // already folded into the snapshot, or torn
+            }
+            rows.put(normalizeId(row.appId), row);
+            lastSeq = Math.max(lastSeq, row.journalSeq);
+        }
+        synchronized (FILE_LOCK) {
+            journalSeq = lastSeq;
+        }
+
+        Map<String, Student> studentsById = new HashMap<>();
+        for (User user : userRepository.getAllUsers()) {
+            if (user.isStudent()) {
+                studentsById.putIfAbsent(normalizeId(user.getUserID()), user.asStudent());
+            }
+        }
+        Map<String, InternshipOpportunity> internshipsById = new HashMap<>();
+        for (InternshipOpportunity internship : internshipRepository.getAllInternships()) {
+            internshipsById.putIfAbsent(normalizeId(internship.getOpportunityID()), internship);
+        }
+
+        for (ApplicationRow row : rows.values()) {
+            Student student = studentsById.get(normalizeId(row.studentId));
+            InternshipOpportunity internship = internshipsById.get(normalizeId(row.opportunityId));
+            if (student == null || internship == null) {
+                continue;
+            }
+            Application app = new Application(row.appId, student, internship, row.status, row.appliedTime);
+            app.setManuallyWithdrawn(row.manuallyWithdrawn);
+            app.setPreviousStatus(row.previousStatus);
+            long stamp = LOCK.writeLock();
+            try {
+                indexApplication(app);
+            } finally {
+                LOCK.unlockWrite(stamp);
+            }
+
+            // Update counter
+            applicationCounter.accumulateAndGet(row.numericId + 1, Math::max);
+        }
+
+        if (!journalRows.isEmpty()) {
+            compact();
+        }
+    }
+
+    /**
+     * Reads and parses application rows from the snapshot or the journal.
+     *
+     * @param file the snapshot or journal file
+     * @param snapshot true if the file is the CSV snapshot, which has a header
+     * @return the parsed rows in file order
+     */
+    private static List<ApplicationRow> readRows(File file, boolean snapshot) {
+        List<ApplicationRow> rows = new ArrayList<>();
+        if (!file.exists()) {
+            return rows; // No file to load
+        }
+        try (CsvReader csv = new CsvReader(new BufferedReader(new FileReader(file)))) {
+            if (snapshot) {
+                csv.next(); // Skip header
+            }
+            while (csv.next()) {
+                ApplicationRow row = parseRow(csv);
+                if (row != null) {
+                    rows.add(row);
                 }
             }
-            reader.close();
         } catch (IOException e) {
             System.err.println("Error loading applications: " + e.getMessage());
         }
+        return rows;
     }
 
     /**
-     * Gets all applications.
+     * Parses one line of the snapshot or journal.
      *
-     * @return list of all applications
+     * @param line the CSV line
+     * @return the parsed row, or null if the line is blank, incomplete or invalid
+     */
+    static ApplicationRow parseRow(String line) {
+        CsvReader record = CsvReader.parseRecord(line);
+        return record == null ? null : parseRow(record);
+    }
+
+    /**
+     * Parses the current record of the snapshot or journal.
+     *
+     * @param record the reader positioned on the record
+     * @return the parsed row, or null if the record is incomplete or invalid
+     */
+    private static ApplicationRow parseRow(CsvReader record) {
+        if (record.size() < 5) {
+            return null;
+        }
+        try {
+            ApplicationRow row = new ApplicationRow();
+            row.appId = record.get(0);
+            row.studentId = record.get(1);
+            row.opportunityId = record.get(2);
+            row.status = ApplicationStatus.fromLabel(record.get(3));
+            row.appliedTime = DateCodec.parseTimestamp(record.get(4));
+            row.manuallyWithdrawn = record.size() > 5 && record.getBoolean(5);
+            row.previousStatus = (record.size() > 6 && !record.isEmpty(6))
+                ? ApplicationStatus.fromLabel(record.get(6))
+                : null;
+            row.journalSeq = (record.size() > 7 && !record.isEmpty(7))
+                ? Long.parseLong(record.get(7))
+                : -1;
+            row.numericId = Integer.parseInt(row.appId.substring(3));
+            return row;
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+            System.err.println("Error parsing application line: " + record.get(0));
+            return null;
+        }
+    }
+
+    /**
+     * Fields of one application line, parsed but not yet linked to its
+     * student and internship.
+     */
+    static final class ApplicationRow {
+        private String appId;
+        private String studentId;
+        private String opportunityId;
+        private ApplicationStatus status;
+        private long appliedTime;
+        private boolean manuallyWithdrawn;
+        private ApplicationStatus previousStatus;
+        private long journalSeq; // -1 if the row has none
+        private int numericId;
+    }
+
+    /**
+     * Clears the table and all indexes before a bulk load.
+     */
+    private static void clearIndexes() {
+        long stamp = LOCK.writeLock();
+        try {
+            applications = applications.cleared();
+            applicationsById.clear();
+            applicationsByStudent.clear();
+            applicationsByOpportunity.clear();
+            applicationsByCompanyRep.clear();
+            applicationsByStatus.clear();
+            dirtyApplications.clear();
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Gets all applications as an immutable snapshot.
+     *
+     * @return snapshot of all applications
      */
     @Override
     public List<Application> getAllApplications() {
-        return new ArrayList<>(applications);
+        return applications;
+    }
+
+    /**
+     * Performs an action for each application in the current snapshot.
+     *
+     * @param action the action to perform
+     */
+    @Override
+    public void forEachApplication(Consumer<? super Application> action) {
+        applications.forEach(action);
+    }
+
+    /**
+     * Streams the applications in the current snapshot.
+     *
+     * @return a sequential stream over the applications
+     */
+    @Override
+    public Stream<Application> streamApplications() {
+        return applications.stream();
+    }
+
+    /**
+     * Gets the version of the application table, which changes whenever an
+     * application is added.
+     *
+     * @return the current snapshot version
+     */
+    public long getVersion() {
+        return applications.getVersion();
     }
 
     /**
@@ -121,7 +362,57 @@ public class CsvApplicationRepository implements IApplicationRepository {
      */
     @Override
     public Application getApplicationById(String applicationId) {
-        return applications.stream().filter(a -> a.getApplicationID().equalsIgnoreCase(applicationId)).findFirst().orElse(null);
+        if (applicationId == null) {
+            return null;
+        }
+        return applicationsById.get(normalizeId(applicationId));
+    }
+
+    /**
+     * Gets all applications submitted by a student.
+     *
+     * @param studentId the student ID
+     * @return list of the student's applications
+     */
+    @Override
+    public List<Application> getApplicationsByStudent(String studentId) {
+        return lookup(applicationsByStudent, studentId);
+    }
+
+    /**
+     * Gets all applications for an internship opportunity.
+     *
+     * @param opportunityId the opportunity ID
+     * @return list of applications for the opportunity
+     */
+    @Override
+    public List<Application> getApplicationsByOpportunity(String opportunityId) {
+        return lookup(applicationsByOpportunity, opportunityId);
+    }
+
+    /**
+     * Gets all applications for internships created by a company representative.
+     *
+     * @param repId the company representative ID
+     * @return list of applications for the representative's internships
+     */
+    @Override
+    public List<Application> getApplicationsByCompanyRep(String repId) {
+        return lookup(applicationsByCompanyRep, repId);
+    }
+
+    /**
+     * Gets all applications currently in the given status.
+     *
+     * @param status the application status
+     * @return list of applications with that status
+     */
+    @Override
+    public List<Application> getApplicationsByStatus(ApplicationStatus status) {
+        return LOCK.read(() -> {
+            Set<Application> bucket = applicationsByStatus.get(status);
+            return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+        });
     }
 
     /**
@@ -131,39 +422,187 @@ public class CsvApplicationRepository implements IApplicationRepository {
      */
     @Override
     public void addApplication(Application application) {
-        applications.add(application);
+        long stamp = LOCK.writeLock();
+        try {
+            indexApplication(application);
+            if (journalEnabled) {
+                dirtyApplications.add(application);
+            }
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        eventBus.publish(ChangeEvent.created(Application.class, application));
         saveApplications();
     }
 
     /**
-     * Saves all applications to the CSV file.
+     * Sets the bus on which application changes are published.
+     *
+     * @param eventBus the event bus
+     */
+    public void setEventBus(ChangeEventBus eventBus) {
+        CsvApplicationRepository.eventBus = eventBus;
+    }
+
+    @Override
+    public ChangeEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Saves applications, or hands the save to the write-behind flusher if
+     * one is set.
      */
     @Override
     public void saveApplications() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter("data/applications.csv"))) {
-            writer.write("ApplicationID,StudentID,OpportunityID,Status,AppliedDate,ManuallyWithdrawn,PreviousStatus");
-            writer.newLine();
+        if (flusher != null) {
+            flusher.submit(writeTask);
+            return;
+        }
+        writeApplications();
+    }
+
+    /**
+     * Writes applications. In journal mode only the applications changed
+     * since the last save are appended to the journal; otherwise the whole
+     * CSV file is rewritten.
+     */
+    private void writeApplications() {
+        synchronized (FILE_LOCK) {
+            if (!journalEnabled) {
+                writeSnapshot();
+                return;
+            }
+            CsvWriter csv = new CsvWriter();
+            List<Application> batch;
+            long seq = journalSeq + 1;
+            long stamp = LOCK.writeLock();
+            try {
+                if (dirtyApplications.isEmpty()) {
+                    return;
+                }
+                batch = new ArrayList<>(dirtyApplications);
+                for (Application app : batch) {
+                    writeRow(csv, app, seq);
+                }
+                dirtyApplications.clear();
+            } finally {
+                LOCK.unlockWrite(stamp);
+            }
+            journalSeq = seq; // also when the append fails, so the fallback snapshot covers any torn rows
+            try (Writer writer = new FileWriter(JOURNAL_FILE, true)) {
+                writer.write(csv.toString());
+                journalRecords += batch.size();
+            } catch (IOException e) {
+                System.err.println("Error appending to application journal: " + e.getMessage());
+                if (!compactJournal()) { // fall back to a full rewrite so the change is not lost
+                    long retryStamp = LOCK.writeLock();
+                    try {
+                        dirtyApplications.addAll(batch);
+                    } finally {
+                        LOCK.unlockWrite(retryStamp);
+                    }
+                }
+                return;
+            }
+            if (journalRecords >= JOURNAL_COMPACTION_THRESHOLD) {
+                compactJournal();
+            }
+        }
+    }
+
+    /**
+     * Folds the journal into the CSV snapshot and removes the journal.
+     */
+    public void compact() {
+        compactJournal();
+    }
+
+    /**
+     * Writes the snapshot and, once it is in place, removes the journal. If
+     * the journal cannot be removed it is truncated; if that fails too, its
+     * rows are still skipped on startup because the snapshot covers their
+     * sequence numbers.
+     *
+     * @return true if the snapshot was written
+     */
+    private boolean compactJournal() {
+        synchronized (FILE_LOCK) {
+            if (!writeSnapshot()) {
+                return false;
+            }
+            File journal = new File(JOURNAL_FILE);
+            if (journal.exists() && !journal.delete()) {
+                try (Writer writer = new FileWriter(journal)) {
+                    // opening without append empties the file
+                } catch (IOException e) {
+                    System.err.println("Error truncating application journal: " + e.getMessage());
+                    return true;
+                }
+            }
+            journalRecords = 0;
+            return true;
+        }
+    }
+
+    /**
+     * Rewrites the full CSV snapshot of all applications, replacing the file
+     * atomically. Rows are rendered under the write lock and written outside
+     * it, and are stamped with the last journal sequence number, since the
+     * table already holds every change appended so far. Must be called while
+     * holding FILE_LOCK.
+     *
+     * @return true if the snapshot was written
+     */
+    private boolean writeSnapshot() {
+        CsvWriter csv = new CsvWriter();
+        List<Application> covered;
+        long stamp = LOCK.writeLock();
+        try {
+            csv.header(HEADER);
             for (Application app : applications) {
-                // Format date consistently for parsing
-                String formattedDate = app.getAppliedDate().toString();
-                writer.write(
-                    app.getApplicationID() + "," +
-                    app.getApplicant().getUserID() + "," +
-                    app.getOpportunity().getOpportunityID() + "," +
-                    app.getStatus() + "," +
-                    formattedDate + "," +
-                    app.isManuallyWithdrawn() + "," +
-                    (app.getPreviousStatus() != null ? app.getPreviousStatus() : "")
-                );
-                writer.newLine();
-            }
-            writer.flush();
+                writeRow(csv, app, journalSeq);
+            }
+            covered = new ArrayList<>(dirtyApplications);
+            dirtyApplications.clear();
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        try {
+            CsvWriter.replaceFile(APPLICATIONS_FILE, csv.toString().getBytes(Charset.defaultCharset()));
+            return true;
         } catch (IOException e) {
             System.err.println("Error saving applications: " + e.getMessage());
             e.printStackTrace();
+            long retryStamp = LOCK.writeLock();
+            try {
+                dirtyApplications.addAll(covered); // still unsaved
+            } finally {
+                LOCK.unlockWrite(retryStamp);
+            }
+            return false;
         }
     }
 
+    /**
+     * Writes an application as a CSV row, as used by both the snapshot and the journal.
+     *
+     * @param csv the destination
+     * @param app the application
+     * @param seq the journal sequence number the row is stamped with
+     */
+    private static void writeRow(CsvWriter csv, Application app, long seq) {
+        csv.field(app.getApplicationID())
+            .field(app.getApplicant().getUserID())
+            .field(app.getOpportunity().getOpportunityID())
+            .field(app.getStatus())
+            .field(app.getAppliedTime())
+            .field(app.isManuallyWithdrawn())
+            .field(app.getPreviousStatus())
+            .field(seq)
+            .endRecord();
+    }
+
     /**
      * Generates a new unique application ID.
      *
@@ -171,8 +610,75 @@ public class CsvApplicationRepository implements IApplicationRepository {
      */
     @Override
     public String generateApplicationId() {
-        return "APP" + String.format("%03d", applicationCounter++);
+        return "APP" + String.format("%03d", applicationCounter.getAndIncrement());
     }
 
+    /**
+     * Adds an application to the table and all of its indexes, and
+     * subscribes to its status changes to keep the status index current.
+     * The caller must hold the write lock.
+     *
+     * @param app the application to index
+     */
+    private static void indexApplication(Application app) {
+        applications = applications.append(app);
+        applicationsById.putIfAbsent(normalizeId(app.getApplicationID()), app);
+        applicationsByStudent.computeIfAbsent(normalizeId(app.getApplicant().getUserID()), k -> new ArrayList<>()).add(app);
+        applicationsByOpportunity.computeIfAbsent(normalizeId(app.getOpportunity().getOpportunityID()), k -> new ArrayList<>()).add(app);
+        applicationsByCompanyRep.computeIfAbsent(normalizeId(app.getOpportunity().getCreatedBy().getUserID()), k -> new ArrayList<>()).add(app);
+        applicationsByStatus.computeIfAbsent(app.getStatusEnum(), k -> new LinkedHashSet<>()).add(app);
+        app.setStatusListener(statusIndexUpdater);
+    }
+
+    /**
+     * Moves an application between status buckets after a status change,
+     * marks it for the next journal append and publishes the change.
+     *
+     * @param app the application
+     * @param oldStatus the previous status
+     * @param newStatus the new status
+     */
+    private static void onStatusChanged(Application app, ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+        long stamp = LOCK.writeLock();
+        try {
+            Set<Application> oldBucket = applicationsByStatus.get(oldStatus);
+            if (oldBucket != null) {
+                oldBucket.remove(app);
+            }
+            applicationsByStatus.computeIfAbsent(newStatus, k -> new LinkedHashSet<>()).add(app);
+            dirtyApplications.add(app);
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        eventBus.publish(ChangeEvent.statusChanged(Application.class, app, oldStatus, newStatus));
+    }
+
+    /**
+     * Copies the bucket for the given key out of a secondary index.
+     *
+     * @param index the index to query
+     * @param id the key to look up
+     * @return a copy of the matching applications
+     */
+    private static List<Application> lookup(Map<String, List<Application>> index, String id) {
+        if (id == null) {
+            return new ArrayList<>();
+        }
+        String key = normalizeId(id);
+        return LOCK.read(() -> {
+            List<Application> bucket = index.get(key);
+            return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+        });
+    }
+
+    /**
+     * Normalizes an ID for case-insensitive index lookups.
+     *
+     * @param id the application, student, opportunity or representative ID
+     * @return the normalized key
+     */
+    private static String normalizeId(String id) {
+        return id.toLowerCase(Locale.ROOT);
+    }
 
 }
\ No newline at end of file
@@ -1,19 +1,49 @@
 import java.io.*;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * CSV-based repository implementation for managing internship opportunities.
  * Loads and saves internship data to/from a CSV file.
  */
 public class CsvInternshipRepository implements IInternshipRepository {
-    private static final List<InternshipOpportunity> internships = new ArrayList<>();
-    private static int internshipCounter = 1;
+    static final String INTERNSHIPS_FILE = "data/internships.csv";
+    private static volatile Snapshot<InternshipOpportunity> internships = Snapshot.empty(); // republished on every insert or removal
+    private static final Map<String, InternshipOpportunity> internshipsById = new ConcurrentHashMap<>(); // keyed by normalized ID; read without the lock
+    private static volatile ChangeEventBus eventBus = new ChangeEventBus();
+    private static final Map<InternshipSortKey, SortedInternshipView> sortedViews = createSortedViews();
+    private static final AtomicLong modifications = new AtomicLong(); // field changes, for the catalogue version
+    private static final IEntityChangeListener<InternshipOpportunity> changeForwarder = (internship, property, before, after) -> {
+        for (SortedInternshipView view : sortedViews.values()) {
+            if (property.equals(view.getSortKey().getProperty())) {
+                view.update(internship);
+            }
+        }
+        modifications.incrementAndGet();
+        eventBus.publish("status".equals(property)
+            ? ChangeEvent.statusChanged(InternshipOpportunity.class, internship, before, after)
+            : ChangeEvent.updated(InternshipOpportunity.class, internship, property, before, after));
+    };
+    private static final RepositoryLock LOCK = new RepositoryLock(); // guards the ID index and save bookkeeping; the table is a published snapshot
+    private static final Object FILE_LOCK = new Object(); // serializes writes to the internship file
+    private static final AtomicInteger internshipCounter = new AtomicInteger(1);
+    private static boolean membershipChanged = false; // an internship was added or removed since the last save
+    private static final AtomicLong bytesWritten = new AtomicLong(); // written under FILE_LOCK, read without it
+    private static final AtomicLong lastSaveBytes = new AtomicLong();
     private IUserRepository userRepository;
-    private static final SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+    private boolean incrementalSaveEnabled = false;
+    private WriteBehindFlusher flusher;
+    private final Runnable writeTask = this::writeInternships;
 
     /**
      * Constructs a CsvInternshipRepository.
@@ -25,6 +55,81 @@ public class CsvInternshipRepository implements IInternshipRepository {
         loadInternships();
     }
 
+    /**
+     * Constructs a CsvInternshipRepository from rows that were already parsed,
+     * e.g. by a parallel bootstrap, instead of reading the CSV file.
+     *
+     * @param userRepository the user repository used to resolve creators
+     * @param rows the parsed internship rows in file order
+     */
+    public CsvInternshipRepository(IUserRepository userRepository, List<InternshipRow> rows) {
+        this.userRepository = userRepository;
+        long stamp = LOCK.writeLock();
+        try {
+            internships = internships.cleared();
+            internshipsById.clear();
+            sortedViews.values().forEach(SortedInternshipView::clear);
+            membershipChanged = false;
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        installRows(rows);
+    }
+
+    /**
+     * Enables or disables incremental saves. When enabled, saveInternships
+     * leaves the file untouched unless an internship was added, removed or
+     * modified since the last save.
+     *
+     * @param incrementalSaveEnabled true to skip saves with nothing to write
+     */
+    public void setIncrementalSaveEnabled(boolean incrementalSaveEnabled) {
+        this.incrementalSaveEnabled = incrementalSaveEnabled;
+    }
+
+    /**
+     * Sets the write-behind flusher. When set, saves are handed to the
+     * flusher instead of being written on the caller's thread.
+     *
+     * @param flusher the flusher, or null to write synchronously
+     */
+    public void setFlusher(WriteBehindFlusher flusher) {
+        this.flusher = flusher;
+    }
+
+    /**
+     * Sets the bus on which internship changes are published.
+     *
+     * @param eventBus the event bus
+     */
+    public void setEventBus(ChangeEventBus eventBus) {
+        CsvInternshipRepository.eventBus = eventBus;
+    }
+
+    @Override
+    public ChangeEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Gets the total number of bytes written to the internship file.
+     *
+     * @return the bytes written since startup
+     */
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * Gets the number of bytes written by the most recent save, which is
+     * zero if that save found nothing to write.
+     *
+     * @return the bytes written by the last save
+     */
+    public long getLastSaveBytes() {
+        return lastSaveBytes.get();
+    }
+
     /**
      * Sets the user repository and loads internships if possible.
      *
@@ -41,66 +146,192 @@ public class CsvInternshipRepository implements IInternshipRepository {
      * Loads internships from the CSV file.
      */
     private void loadInternships() {
-        try {
-            File file = new File("data/internships.csv");
-            if (!file.exists()) {
-                return; // No file to load
-            }
-            BufferedReader reader = new BufferedReader(new FileReader(file));
-            String line = reader.readLine(); // Skip header
-            while ((line = reader.readLine()) != null && !line.trim().isEmpty()) {
-                String[] parts = line.split(",");
-                if (parts.length >= 11) {
-                    try {
-                        String oppId = parts[0].trim();
-                        String title = parts[1].trim();
-                        String description = parts[2].trim();
-                        String level = parts[3].trim();
-                        String preferredMajor = parts[4].trim();
-                        Date openingDate = dateFormat.parse(parts[5].trim());
-                        Date closingDate = dateFormat.parse(parts[6].trim());
-                        String status = parts[7].trim();
-                        int maxSlots = Integer.parseInt(parts[8].trim());
-                        boolean visibility = Boolean.parseBoolean(parts[9].trim());
-                        double minGPA = Double.parseDouble(parts[10].trim());
-                        String creatorId = parts[11].trim();
-                        
-                        User creator = userRepository.getUserById(creatorId);
-                        if (creator.isCompanyRepresentative()) {
-                            InternshipOpportunity opp = new InternshipOpportunity(
-                                oppId, title, description, level, preferredMajor,
-                                openingDate, closingDate, maxSlots, minGPA,
-                                creator.asCompanyRepresentative()
-                            );
-                            opp.setStatus(status);
-                            opp.setVisibility(visibility);
-                            internships.add(opp);
-                            
-                            // Update counter
-                            int id = Integer.parseInt(oppId.substring(3));
-                            if (id >= internshipCounter) {
-                                internshipCounter = id + 1;
-                            }
-                        }
-                    } catch (ParseException | NumberFormatException e) {
-                        System.err.println("Error parsing internship line: " + line);
-                    }
+        long start = System.nanoTime();
+        File file = new File(INTERNSHIPS_FILE);
+        if (!file.exists() || userRepository == null) {
+            return; // No file to load, or creators cannot be resolved yet
+        }
+        List<InternshipRow> rows = new ArrayList<>();
+        try (CsvReader csv = new CsvReader(new BufferedReader(new FileReader(file)))) {
+            csv.next(); // Skip header
+            while (csv.next()) {
+                InternshipRow row = parseRow(csv);
+                if (row != null) {
+                    rows.add(row);
                 }
             }
-            reader.close();
         } catch (IOException e) {
             System.err.println("Error loading internships: " + e.getMessage());
+            return;
+        }
+        int loaded = installRows(rows);
+        UIHelper.printLoadTiming(INTERNSHIPS_FILE, loaded, System.nanoTime() - start);
+    }
+
+    /**
+     * Creates internships from parsed rows. Creators are resolved against a
+     * representative map built once up front, so this is linear in the
+     * number of users plus internships.
+     *
+     * @param rows the parsed rows in file order
+     * @return the number of internships installed
+     */
+    private int installRows(List<InternshipRow> rows) {
+        Map<String, CompanyRepresentative> repsById = new HashMap<>();
+        for (User user : userRepository.getAllUsers()) {
+            if (user.isCompanyRepresentative()) {
+                repsById.putIfAbsent(normalizeId(user.getUserID()), user.asCompanyRepresentative());
+            }
+        }
+        int loaded = 0;
+        for (InternshipRow row : rows) {
+            CompanyRepresentative creator = repsById.get(normalizeId(row.creatorId));
+            if (creator == null) {
+                continue;
+            }
+            InternshipOpportunity opp = new InternshipOpportunity(
+                row.oppId, row.title, row.description, row.level, row.preferredMajor,
+                row.openingTime, row.closingTime, row.maxSlots, row.minGPA,
+                creator
+            );
+            opp.setStatus(row.status);
+            opp.setVisibility(row.visibility);
+            opp.markPersisted(opp.getVersion());
+            opp.setChangeListener(changeForwarder);
+            long stamp = LOCK.writeLock();
+            try {
+                internships = internships.append(opp);
+                sortedViews.values().forEach(view -> view.add(opp));
+                internshipsById.putIfAbsent(normalizeId(row.oppId), opp);
+            } finally {
+                LOCK.unlockWrite(stamp);
+            }
+            loaded++;
+
+            // Update counter
+            internshipCounter.accumulateAndGet(row.numericId + 1, Math::max);
+        }
+        return loaded;
+    }
+
+    /**
+     * Parses one line of the internship file.
+     *
+     * @param line the CSV line
+     * @return the parsed row, or null if the line is blank, incomplete or invalid
+     */
+    static InternshipRow parseRow(String line) {
+        CsvReader record = CsvReader.parseRecord(line);
+        return record == null ? null : parseRow(record);
+    }
+
+    /**
+     * Parses the current record of the internship file.
+     *
+     * @param record the reader positioned on the record
+     * @return the parsed row, or null if the record is incomplete or invalid
+     */
+    private static InternshipRow parseRow(CsvReader record) {
+        if (record.size() < 12) {
+            return null;
+        }
+        try {
+            InternshipRow row = new InternshipRow();
+            row.oppId = record.get(0);
+            row.title = record.get(1);
+            row.description = record.get(2);
+            row.level = record.get(3);
+            row.preferredMajor = record.get(4);
+            row.openingTime = DateCodec.parseDay(record.get(5));
+            row.closingTime = DateCodec.parseDay(record.get(6));
+            row.status = record.get(7);
+            row.maxSlots = record.getInt(8);
+            row.visibility = record.getBoolean(9);
+            row.minGPA = record.getDouble(10);
+            row.creatorId = record.get(11);
+            row.numericId = Integer.parseInt(row.oppId.substring(3));
+            return row;
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+            System.err.println("Error parsing internship line: " + record.get(0));
+            return null;
         }
     }
 
     /**
-     * Gets all internships.
+     * Fields of one internship line, parsed but not yet linked to its creator.
+     */
+    static final class InternshipRow {
+        private String oppId;
+        private String title;
+        private String description;
+        private String level;
+        private String preferredMajor;
+        private long openingTime;
+        private long closingTime;
+        private String status;
+        private int maxSlots;
+        private boolean visibility;
+        private double minGPA;
+        private String creatorId;
+        private int numericId;
+    }
+
+    /**
+     * Gets all internships as an immutable snapshot.
      *
-     * @return list of all internships
+     * @return snapshot of all internships
      */
     @Override
     public List<InternshipOpportunity> getAllInternships() {
-        return new ArrayList<>(internships);
+        return internships;
+    }
+
+    /**
+     * Performs an action for each internship in the current snapshot.
+     *
+     * @param action the action to perform
+     */
+    @Override
+    public void forEachInternship(Consumer<? super InternshipOpportunity> action) {
+        internships.forEach(action);
+    }
+
+    /**
+     * Streams the internships in the current snapshot.
+     *
+     * @return a sequential stream over the internships
+     */
+    @Override
+    public Stream<InternshipOpportunity> streamInternships() {
+        return internships.stream();
+    }
+
+    /**
+     * Gets the version of the internship table, which changes whenever an
+     * internship is added or removed.
+     *
+     * @return the current snapshot version
+     */
+    public long getVersion() {
+        return internships.getVersion();
+    }
+
+    @Override
+    public List<InternshipOpportunity> getInternshipsSortedBy(InternshipSortKey sortKey) {
+        return sortedViews.get(sortKey).getInternships();
+    }
+
+    private static Map<InternshipSortKey, SortedInternshipView> createSortedViews() {
+        Map<InternshipSortKey, SortedInternshipView> views = new EnumMap<>(InternshipSortKey.class);
+        for (InternshipSortKey sortKey : InternshipSortKey.values()) {
+            views.put(sortKey, new SortedInternshipView(sortKey));
+        }
+        return views;
+    }
+
+    @Override
+    public long getCatalogueVersion() {
+        return internships.getVersion() + modifications.get();
     }
 
     /**
@@ -111,7 +342,10 @@ public class CsvInternshipRepository implements IInternshipRepository {
      */
     @Override
     public InternshipOpportunity getInternshipById(String opportunityId) {
-        return internships.stream().filter(i -> i.getOpportunityID().equalsIgnoreCase(opportunityId)).findFirst().orElse(null);
+        if (opportunityId == null) {
+            return null;
+        }
+        return internshipsById.get(normalizeId(opportunityId));
     }
 
     /**
@@ -121,7 +355,17 @@ public class CsvInternshipRepository implements IInternshipRepository {
      */
     @Override
     public void addInternship(InternshipOpportunity internship) {
-        internships.add(internship);
+        long stamp = LOCK.writeLock();
+        try {
+            internships = internships.append(internship);
+            sortedViews.values().forEach(view -> view.add(internship));
+            internshipsById.putIfAbsent(normalizeId(internship.getOpportunityID()), internship);
+            membershipChanged = true;
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        internship.setChangeListener(changeForwarder);
+        eventBus.publish(ChangeEvent.created(InternshipOpportunity.class, internship));
         saveInternships();
     }
 
@@ -132,37 +376,139 @@ public class CsvInternshipRepository implements IInternshipRepository {
      */
     @Override
     public void removeInternship(String opportunityId) {
-        internships.removeIf(i -> i.getOpportunityID().equalsIgnoreCase(opportunityId));
+        List<InternshipOpportunity> removed = new ArrayList<>();
+        long stamp = LOCK.writeLock();
+        try {
+            if (opportunityId != null) {
+                internshipsById.remove(normalizeId(opportunityId));
+            }
+            Snapshot<InternshipOpportunity> remaining = internships.without(i -> {
+                if (i.getOpportunityID().equalsIgnoreCase(opportunityId)) {
+                    removed.add(i);
+                    return true;
+                }
+                return false;
+            });
+            if (remaining != internships) {
+                internships = remaining;
+                membershipChanged = true;
+            }
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        for (InternshipOpportunity internship : removed) {
+            internship.setChangeListener(null);
+            sortedViews.values().forEach(view -> view.remove(internship));
+            eventBus.publish(ChangeEvent.removed(InternshipOpportunity.class, internship));
+        }
         saveInternships();
     }
 
     /**
-     * Saves all internships to the CSV file.
+     * Normalizes an internship ID for case-insensitive index lookups.
+     *
+     * @param opportunityId the internship ID
+     * @return the normalized key
+     */
+    private static String normalizeId(String opportunityId) {
+        return opportunityId.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Saves all internships to the CSV file, or hands the save to the
+     * write-behind flusher if one is set.
      */
     @Override
     public void saveInternships() {
-        try (PrintWriter writer = new PrintWriter(new FileWriter("data/internships.csv"))) {
-            writer.println("InternshipID,Title,Description,Level,PreferredMajor,OpeningDate,ClosingDate,Status,MaxSlots,Visibility,MinGPA,CreatedBy");
-            for (InternshipOpportunity opp : internships) {
-                writer.println(
-                    opp.getOpportunityID() + "," +
-                    opp.getTitle() + "," +
-                    opp.getDescription() + "," +
-                    opp.getLevel() + "," +
-                    opp.getPreferredMajor() + "," +
-                    dateFormat.format(opp.getOpeningDate()) + "," +
-                    dateFormat.format(opp.getClosingDate()) + "," +
-                    opp.getStatus() + "," +
-                    opp.getMaxSlots() + "," +
-                    opp.isVisibility() + "," +
-                    opp.getMinGPA() + "," +
-                    opp.getCreatedBy().getUserID()
-                );
+        if (flusher != null) {
+            flusher.submit(writeTask);
+            return;
+        }
+        writeInternships();
+    }
+
+    /**
+     * Writes all internships to the CSV file. In incremental mode the file is
+     * only rewritten when something changed since the last save. Rows are
+     * rendered under the write lock and written outside it, and the file is
+     * replaced atomically.
+     */
+    private void writeInternships() {
+        synchronized (FILE_LOCK) {
+            CsvWriter csv = new CsvWriter();
+            List<InternshipOpportunity> written;
+            int[] versions;
+            long stamp = LOCK.writeLock();
+            try {
+                if (incrementalSaveEnabled && !hasUnsavedChanges()) {
+                    lastSaveBytes.set(0);
+                    return;
+                }
+                written = internships;
+                versions = new int[written.size()];
+                csv.header("InternshipID,Title,Description,Level,PreferredMajor,OpeningEpochDay,ClosingEpochDay,Status,MaxSlots,Visibility,MinGPA,CreatedBy");
+                for (int i = 0; i < written.size(); i++) {
+                    InternshipOpportunity opp = written.get(i);
+                    versions[i] = opp.getVersion();
+                    csv.field(opp.getOpportunityID())
+                        .field(opp.getTitle())
+                        .field(opp.getDescription())
+                        .field(opp.getLevel())
+                        .field(opp.getPreferredMajor())
+                        .field(DateCodec.toEpochDay(opp.getOpeningTime()))
+                        .field(DateCodec.toEpochDay(opp.getClosingTime()))
+                        .field(opp.getStatus())
+                        .field(opp.getMaxSlots())
+                        .field(opp.isVisibility())
+                        .field(opp.getMinGPA())
+                        .field(opp.getCreatedBy().getUserID())
+                        .endRecord();
+                }
+                membershipChanged = false;
+            } finally {
+                LOCK.unlockWrite(stamp);
+            }
+            byte[] content = csv.toString().getBytes(Charset.defaultCharset());
+            try {
+                CsvWriter.replaceFile(INTERNSHIPS_FILE, content);
+            } catch (IOException e) {
+                System.err.println("Error saving internships: " + e.getMessage());
+                long retryStamp = LOCK.writeLock();
+                try {
+                    membershipChanged = true; // retry on the next save
+                } finally {
+                    LOCK.unlockWrite(retryStamp);
+                }
+                return;
+            }
+            long persistStamp = LOCK.writeLock();
+            try {
+                for (int i = 0; i < versions.length; i++) {
+                    written.get(i).markPersisted(versions[i]);
+                }
+            } finally {
+                LOCK.unlockWrite(persistStamp);
+            }
+            lastSaveBytes.set(content.length);
+            UIHelper.printSaveBytes(INTERNSHIPS_FILE, content.length, bytesWritten.addAndGet(content.length));
+        }
+    }
+
+    /**
+     * Checks if any internship was added, removed or modified since the last save.
+     *
+     * @return true if the file is out of date
+     */
+    private static boolean hasUnsavedChanges() {
+        if (membershipChanged) {
+            return true;
+        }
+        for (InternshipOpportunity opp : internships) {
+            if (opp.isDirty()) {
+                return true;
             }
-            writer.flush();
-        } catch (IOException e) {
-            System.err.println("Error saving internships: " + e.getMessage());
         }
+        return false;
     }
 
     /**
@@ -172,6 +518,6 @@ public class CsvInternshipRepository implements IInternshipRepository {
      */
     @Override
     public String generateInternshipId() {
-        return "INT" + String.format("%03d", internshipCounter++);
+        return "INT" + String.format("%03d", internshipCounter.getAndIncrement());
     }
 }
\ No newline at end of file
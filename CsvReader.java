@@ -0,0 +1,355 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Streaming CSV reader shared by the CSV repositories.
+ * Scans a character buffer once per record and handles RFC 4180 quoting:
+ * quoted fields may contain commas, doubled quotes and line breaks.
+ * Field contents are kept in one reusable buffer, and numeric and boolean
+ * fields are decoded straight from it without creating strings.
+ * Unquoted fields are trimmed, matching the old {@code split(",")} and
+ * {@code trim()} parsing; quoted fields are returned exactly.
+ */
+public class CsvReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final ThreadLocal<CsvReader> lineReaders = ThreadLocal.withInitial(CsvReader::new);
+
+    private Reader in;
+    private char[] buf = new char[BUFFER_SIZE];
+    private int pos = 0;
+    private int limit = 0;
+
+    private char[] fieldChars = new char[256]; // contents of every field in the current record
+    private int fieldLength = 0;
+    private int[] fieldStart = new int[16];
+    private int[] fieldEnd = new int[16];
+    private int fieldCount = 0;
+
+    /**
+     * Constructs a CsvReader over a character stream.
+     *
+     * @param in the stream to read; closed by {@link #close()}
+     */
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Constructs a CsvReader with no input, for use with {@link #parseLine(String)}.
+     */
+    public CsvReader() {
+        this(null);
+    }
+
+    /**
+     * Parses a single record held in a string with a reader reused by the
+     * calling thread. The returned reader is only valid until the thread's
+     * next call.
+     *
+     * @param line the record text
+     * @return the reader positioned on the record, or null if the line was blank
+     */
+    public static CsvReader parseRecord(String line) {
+        CsvReader reader = lineReaders.get();
+        return reader.parseLine(line) ? reader : null;
+    }
+
+    /**
+     * Parses a single record held in a string, replacing the current record.
+     * Used by callers that have already split a file into records.
+     *
+     * @param line the record text
+     * @return true if the line held a record, false if it was blank
+     */
+    public boolean parseLine(String line) {
+        in = null;
+        if (buf.length < line.length()) {
+            buf = new char[line.length()];
+        }
+        line.getChars(0, line.length(), buf, 0);
+        pos = 0;
+        limit = line.length();
+        try {
+            return next();
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // unreachable: there is no stream to read
+        }
+    }
+
+    /**
+     * Advances to the next record, skipping blank lines.
+     *
+     * @return true if a record was read, false at end of input
+     * @throws IOException if the stream cannot be read
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                fieldCount = 0;
+                return false;
+            }
+            if (c == '\n') {
+                continue;
+            }
+            if (c == '\r') {
+                skipLineFeed();
+                continue;
+            }
+            pos--; // first character of the record
+            if (readRecord()) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reads fields up to the end of the current line.
+     *
+     * @return false if the line held only whitespace
+     */
+    private boolean readRecord() throws IOException {
+        fieldCount = 0;
+        fieldLength = 0;
+        boolean blank = true;
+        while (true) {
+            int start = fieldLength;
+            int c = read();
+            while (isInlineWhitespace(c)) {
+                c = read();
+            }
+            int end;
+            if (c == '"') {
+                blank = false;
+                c = readQuoted();
+                while (isInlineWhitespace(c)) {
+                    c = read();
+                }
+                // Anything between the closing quote and the delimiter is kept, as lenient readers do
+                while (c != ',' && c != '\n' && c != '\r' && c != -1) {
+                    append((char) c);
+                    c = read();
+                }
+                end = fieldLength;
+            } else {
+                while (c != ',' && c != '\n' && c != '\r' && c != -1) {
+                    append((char) c);
+                    c = read();
+                }
+                end = fieldLength;
+                while (end > start && fieldChars[end - 1] <= ' ') {
+                    end--;
+                }
+                if (end > start) {
+                    blank = false;
+                }
+            }
+            addField(start, end);
+            if (c == ',') {
+                blank = false;
+                continue;
+            }
+            if (c == '\r') {
+                skipLineFeed();
+            }
+            return !blank;
+        }
+    }
+
+    /**
+     * Reads a quoted field body after its opening quote.
+     *
+     * @return the first character after the closing quote, or -1 at end of input
+     */
+    private int readQuoted() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return -1; // unterminated quote: keep what was read
+            }
+            if (c == '"') {
+                int following = read();
+                if (following != '"') {
+                    return following;
+                }
+            }
+            append((char) c);
+        }
+    }
+
+    private static boolean isInlineWhitespace(int c) {
+        return c != -1 && c <= ' ' && c != '\n' && c != '\r';
+    }
+
+    private void skipLineFeed() throws IOException {
+        int c = read();
+        if (c != '\n' && c != -1) {
+            pos--;
+        }
+    }
+
+    private int read() throws IOException {
+        if (pos == limit) {
+            if (in == null) {
+                pos = limit + 1; // keep pos-- after end of input harmless
+                return -1;
+            }
+            int n = in.read(buf, 0, buf.length);
+            if (n <= 0) {
+                pos = limit + 1;
+                return -1;
+            }
+            pos = 0;
+            limit = n;
+        } else if (pos > limit) {
+            return -1;
+        }
+        return buf[pos++];
+    }
+
+    private void append(char c) {
+        if (fieldLength == fieldChars.length) {
+            char[] grown = new char[fieldChars.length * 2];
+            System.arraycopy(fieldChars, 0, grown, 0, fieldLength);
+            fieldChars = grown;
+        }
+        fieldChars[fieldLength++] = c;
+    }
+
+    private void addField(int start, int end) {
+        if (fieldCount == fieldStart.length) {
+            int[] grownStart = new int[fieldCount * 2];
+            int[] grownEnd = new int[fieldCount * 2];
+            System.arraycopy(fieldStart, 0, grownStart, 0, fieldCount);
+            System.arraycopy(fieldEnd, 0, grownEnd, 0, fieldCount);
+            fieldStart = grownStart;
+            fieldEnd = grownEnd;
+        }
+        fieldStart[fieldCount] = start;
+        fieldEnd[fieldCount] = end;
+        fieldCount++;
+    }
+
+    /**
+     * Gets the number of fields in the current record.
+     *
+     * @return the field count
+     */
+    public int size() {
+        return fieldCount;
+    }
+
+    /**
+     * Gets a field as a string.
+     *
+     * @param index the field index
+     * @return the field value
+     */
+    public String get(int index) {
+        checkIndex(index);
+        return new String(fieldChars, fieldStart[index], fieldEnd[index] - fieldStart[index]);
+    }
+
+    /**
+     * Checks if a field is empty.
+     *
+     * @param index the field index
+     * @return true if the field has no characters
+     */
+    public boolean isEmpty(int index) {
+        checkIndex(index);
+        return fieldEnd[index] == fieldStart[index];
+    }
+
+    /**
+     * Gets a field as an int, decoded without creating a string.
+     *
+     * @param index the field index
+     * @return the value
+     * @throws NumberFormatException if the field is not a decimal integer
+     */
+    public int getInt(int index) {
+        long value = getLong(index);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of range: " + get(index));
+        }
+        return (int) value;
+    }
+
+    /**
+     * Gets a field as a long, decoded without creating a string.
+     *
+     * @param index the field index
+     * @return the value
+     * @throws NumberFormatException if the field is not a decimal integer
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+        int i = fieldStart[index];
+        int end = fieldEnd[index];
+        boolean negative = i < end && fieldChars[i] == '-';
+        if (negative || (i < end && fieldChars[i] == '+')) {
+            i++;
+        }
+        if (i == end || end - i > 18) {
+            return Long.parseLong(get(index)); // empty or possibly overflowing: let the JDK report it
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            char c = fieldChars[i];
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("For input string: \"" + get(index) + "\"");
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Gets a field as a double.
+     *
+     * @param index the field index
+     * @return the value
+     * @throws NumberFormatException if the field is not a number
+     */
+    public double getDouble(int index) {
+        return Double.parseDouble(get(index));
+    }
+
+    /**
+     * Gets a field as a boolean, decoded without creating a string.
+     * As with {@link Boolean#parseBoolean(String)}, anything other than
+     * "true" (ignoring case) is false.
+     *
+     * @param index the field index
+     * @return the value
+     */
+    public boolean getBoolean(int index) {
+        checkIndex(index);
+        int start = fieldStart[index];
+        return fieldEnd[index] - start == 4
+            && Character.toLowerCase(fieldChars[start]) == 't'
+            && Character.toLowerCase(fieldChars[start + 1]) == 'r'
+            && Character.toLowerCase(fieldChars[start + 2]) == 'u'
+            && Character.toLowerCase(fieldChars[start + 3]) == 'e';
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException("Field " + index + " of " + fieldCount);
+        }
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException if the stream cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+        }
+    }
+}
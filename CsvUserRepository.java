@@ -1,18 +1,52 @@
 import java.io.*;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * CSV-based repository implementation for managing users.
  * Loads and saves user data from/to CSV files for students, staff, and company representatives.
  */
 public class CsvUserRepository implements IUserRepository {
-    private static final List<User> users = new ArrayList<>();
-    private static int companyRepCounter = 1;
+    static final String STUDENTS_FILE = "data/sample_student_list.csv";
+    static final String STAFF_FILE = "data/sample_staff_list.csv";
+    static final String COMPANY_REPS_FILE = "data/sample_company_representative_list.csv";
+    private static volatile Snapshot<User> users = Snapshot.empty(); // republished on every insert or removal
+    private static final Map<String, User> usersById = new ConcurrentHashMap<>(); // keyed by normalized user ID; read without the lock
+    private static volatile ChangeEventBus eventBus = new ChangeEventBus();
+    private static final IEntityChangeListener<User> changeForwarder = (user, property, before, after) ->
+        eventBus.publish("status".equals(property)
+            ? ChangeEvent.statusChanged(User.class, user, before, after)
+            : ChangeEvent.updated(User.class, user, property, before, after));
+    private static final RepositoryLock LOCK = new RepositoryLock(); // guards the ID index and the membership set; the table is a published snapshot
+    private static final Object FILE_LOCK = new Object(); // serializes writes to the user files
+    private static final AtomicInteger companyRepCounter = new AtomicInteger(1);
     private static boolean isLoaded = false; // Track if data already loaded
+    private static final Set<String> membershipChanged = new HashSet<>(); // files with users added or removed since the last save
+    private static final AtomicLong bytesWritten = new AtomicLong(); // written under FILE_LOCK, read without it
+    private static final AtomicLong lastSaveBytes = new AtomicLong();
     private IInternshipRepository internshipRepository;
     private IApplicationRepository applicationRepository;
     private ICompanyRepApplicationService applicationService;
+    private boolean incrementalSaveEnabled = false;
+    private WriteBehindFlusher flusher;
+    private final Runnable writeTask = () -> {
+        try {
+            writeUsers();
+        } catch (IOException e) {
+            System.err.println("Error saving users: " + e.getMessage());
+        }
+    };
 
     /**
      * Constructs a CsvUserRepository.
@@ -30,6 +64,20 @@ public class CsvUserRepository implements IUserRepository {
         }
     }
 
+    /**
+     * Constructs a CsvUserRepository from users that were already parsed,
+     * e.g. by a parallel bootstrap, instead of reading the CSV files.
+     *
+     * @param loadedUsers the parsed students, staff and company representatives
+     */
+    public CsvUserRepository(List<User> loadedUsers) {
+        clearTables();
+        for (User user : loadedUsers) {
+            install(user);
+        }
+        isLoaded = true;
+    }
+
     /**
      * Sets the internship repository and updates references in users.
      *
@@ -82,8 +130,19 @@ public class CsvUserRepository implements IUserRepository {
             }
         }
     }
+    private static void clearTables() {
+        long stamp = LOCK.writeLock();
+        try {
+            users = users.cleared();
+            usersById.clear();
+            membershipChanged.clear();
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+    }
+
     private void loadUsers() {
-        users.clear(); // Clear before loading to avoid duplicates
+        clearTables(); // Clear before loading to avoid duplicates
         try {
             loadStudents();
             loadStaff();
@@ -94,13 +153,33 @@ public class CsvUserRepository implements IUserRepository {
     }
 
     /**
-     * Gets all users.
+     * Gets all users as an immutable snapshot.
      *
-     * @return list of all users
+     * @return snapshot of all users
      */
     @Override
     public List<User> getAllUsers() {
-        return new ArrayList<>(users);
+        return users;
+    }
+
+    /**
+     * Performs an action for each user in the current snapshot.
+     *
+     * @param action the action to perform
+     */
+    @Override
+    public void forEachUser(Consumer<? super User> action) {
+        users.forEach(action);
+    }
+
+    /**
+     * Streams the users in the current snapshot.
+     *
+     * @return a sequential stream over the users
+     */
+    @Override
+    public Stream<User> streamUsers() {
+        return users.stream();
     }
 
     /**
@@ -111,7 +190,10 @@ public class CsvUserRepository implements IUserRepository {
      */
     @Override
     public User getUserById(String userId) {
-        return users.stream().filter(u -> u.getUserID().equalsIgnoreCase(userId)).findFirst().orElse(null);
+        if (userId == null) {
+            return null;
+        }
+        return usersById.get(normalizeId(userId));
     }
 
     /**
@@ -121,7 +203,16 @@ public class CsvUserRepository implements IUserRepository {
      */
     @Override
     public void addUser(User user) {
-        users.add(user);
+        long stamp = LOCK.writeLock();
+        try {
+            users = users.append(user);
+            usersById.putIfAbsent(normalizeId(user.getUserID()), user);
+            membershipChanged.add(fileFor(user));
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        user.setChangeListener(changeForwarder);
+        eventBus.publish(ChangeEvent.created(User.class, user));
     }
 
     /**
@@ -131,162 +222,463 @@ public class CsvUserRepository implements IUserRepository {
      */
     @Override
     public void removeUser(String userId) {
-        users.removeIf(u -> u.getUserID().equals(userId));
+        if (userId == null) {
+            return;
+        }
+        User removed;
+        long stamp = LOCK.writeLock();
+        try {
+            removed = usersById.remove(normalizeId(userId));
+            if (removed != null) {
+                users = users.without(u -> u.getUserID().equalsIgnoreCase(userId));
+                membershipChanged.add(fileFor(removed));
+            }
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        if (removed != null) {
+            removed.setChangeListener(null);
+            eventBus.publish(ChangeEvent.removed(User.class, removed));
+        }
     }
 
     /**
-     * Saves all users to CSV files.
+     * Normalizes a user ID for case-insensitive index lookups.
+     *
+     * @param userId the user ID
+     * @return the normalized key
+     */
+    private static String normalizeId(String userId) {
+        return userId.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Saves all users to CSV files, or hands the save to the write-behind
+     * flusher if one is set.
      */
     @Override
     public void saveUsers() throws IOException {
-        saveStudents();
-        saveStaff();
-        saveCompanyRepresentatives();
+        if (flusher != null) {
+            flusher.submit(writeTask);
+            return;
+        }
+        writeUsers();
     }
 
     /**
-     * Loads students from CSV file.
+     * Writes the user files. In incremental mode only the files whose users
+     * were added, removed or modified since the last save are rewritten.
      */
-    private void loadStudents() {
-        try (BufferedReader br = new BufferedReader(new FileReader("data/sample_student_list.csv"))) {
-            String line = br.readLine(); // Skip header
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length >= 7) {
-                    String userID = parts[0].trim();
-                    String name = parts[1].trim();
-                    String major = parts[2].trim();
-                    int year = Integer.parseInt(parts[3].trim());
-                    double gpa = Double.parseDouble(parts[4].trim());
-                    String passwordHash = parts[5].trim();
-                    String salt = parts[6].trim();
-                    Student student = new Student(userID, name, passwordHash, salt, year, major, gpa, internshipRepository, applicationRepository);
-                    users.add(student);
-                }
+    private void writeUsers() throws IOException {
+        synchronized (FILE_LOCK) {
+            lastSaveBytes.set(0);
+            saveStudents();
+            saveStaff();
+            saveCompanyRepresentatives();
+        }
+    }
+
+    /**
+     * Sets the write-behind flusher. When set, saves are handed to the
+     * flusher instead of being written on the caller's thread.
+     *
+     * @param flusher the flusher, or null to write synchronously
+     */
+    public void setFlusher(WriteBehindFlusher flusher) {
+        this.flusher = flusher;
+    }
+
+    /**
+     * Sets the bus on which user changes are published.
+     *
+     * @param eventBus the event bus
+     */
+    public void setEventBus(ChangeEventBus eventBus) {
+        CsvUserRepository.eventBus = eventBus;
+    }
+
+    @Override
+    public ChangeEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Enables or disables incremental saves.
+     *
+     * @param incrementalSaveEnabled true to rewrite only the files that changed
+     */
+    public void setIncrementalSaveEnabled(boolean incrementalSaveEnabled) {
+        this.incrementalSaveEnabled = incrementalSaveEnabled;
+    }
+
+    /**
+     * Gets the total number of bytes written to the user files.
+     *
+     * @return the bytes written since startup
+     */
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * Gets the number of bytes written by the most recent save, which is
+     * zero if that save found nothing to write.
+     *
+     * @return the bytes written by the last save
+     */
+    public long getLastSaveBytes() {
+        return lastSaveBytes.get();
+    }
+
+    /**
+     * Gets the CSV file a user is stored in.
+     *
+     * @param user the user
+     * @return the file path
+     */
+    private static String fileFor(User user) {
+        if (user.isStudent()) {
+            return STUDENTS_FILE;
+        } else if (user.isCareerCenterStaff()) {
+            return STAFF_FILE;
+        }
+        return COMPANY_REPS_FILE;
+    }
+
+    /**
+     * Collects the users stored in one file, or returns null if incremental
+     * saves are enabled and nothing in that file changed since the last save.
+     * Must be called while holding the write lock.
+     *
+     * @param path the CSV file
+     * @return the users to write, or null to skip the file
+     */
+    private List<User> usersToSave(String path) {
+        List<User> fileUsers = new ArrayList<>();
+        boolean changed = !incrementalSaveEnabled || membershipChanged.contains(path);
+        for (User user : users) {
+            if (fileFor(user).equals(path)) {
+                fileUsers.add(user);
+                changed |= user.isDirty();
             }
-        } catch (Exception e) {
-            System.err.println("Error loading students: " + e.getMessage());
         }
+        if (!changed) {
+            return null;
+        }
+        membershipChanged.remove(path);
+        return fileUsers;
     }
 
     /**
-     * Loads staff from CSV file.
+     * Atomically replaces a user file with its rendered content and marks the
+     * written versions persisted.
+     *
+     * @param path the CSV file
+     * @param content the file content
+     * @param fileUsers the users in the file
+     * @param versions the version of each user at the time it was rendered
      */
-    private void loadStaff() {
-        try (BufferedReader br = new BufferedReader(new FileReader("data/sample_staff_list.csv"))) {
-            String line = br.readLine(); // Skip header
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length >= 5) {
-                    String userID = parts[0].trim();
-                    String name = parts[1].trim();
-                    String department = parts[2].trim();
-                    String passwordHash = parts[3].trim();
-                    String salt = parts[4].trim();
-                    CareerCenterStaff staff = new CareerCenterStaff(userID, name, passwordHash, salt, department, this, internshipRepository, applicationRepository);
-                    users.add(staff);
-                }
+    private static void writeFile(String path, String content, List<User> fileUsers, int[] versions) throws IOException {
+        byte[] bytes = content.getBytes(Charset.defaultCharset());
+        try {
+            CsvWriter.replaceFile(path, bytes);
+        } catch (IOException e) {
+            long stamp = LOCK.writeLock();
+            try {
+                membershipChanged.add(path); // retry on the next save
+            } finally {
+                LOCK.unlockWrite(stamp);
             }
-        } catch (Exception e) {
-            System.err.println("Error loading staff: " + e.getMessage());
+            throw e;
+        }
+        long stamp = LOCK.writeLock();
+        try {
+            for (int i = 0; i < versions.length; i++) {
+                fileUsers.get(i).markPersisted(versions[i]);
+            }
+        } finally {
+            LOCK.unlockWrite(stamp);
         }
+        lastSaveBytes.addAndGet(bytes.length);
+        UIHelper.printSaveBytes(path, bytes.length, bytesWritten.addAndGet(bytes.length));
+    }
+
+    /**
+     * Loads students from CSV file.
+     */
+    private void loadStudents() {
+        loadFile(STUDENTS_FILE, CsvUserRepository::parseStudent);
+    }
+
+    /**
+     * Loads staff from CSV file.
+     */
+    private void loadStaff() {
+        loadFile(STAFF_FILE, CsvUserRepository::parseStaff);
     }
 
     /**
      * Loads company representatives from CSV file.
      */
     private void loadCompanyRepresentatives() {
-        try (BufferedReader br = new BufferedReader(new FileReader("data/sample_company_representative_list.csv"))) {
-            String line = br.readLine(); // Skip header
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length >= 9) {
-                    String userID = parts[0].trim();
-                    String name = parts[1].trim();
-                    String companyName = parts[2].trim();
-                    String department = parts[3].trim();
-                    String position = parts[4].trim();
-                    String email = parts[5].trim();
-                    String passwordHash = parts[6].trim();
-                    String salt = parts[7].trim();
-                    String status = parts[8].trim();
-                    CompanyRepresentative rep = new CompanyRepresentative(userID, name, passwordHash, salt, companyName, department, position, email, internshipRepository, applicationRepository);
-                    if ("Approved".equalsIgnoreCase(status)) {
-                        rep.setApproved(true);
-                    }
-                    users.add(rep);
+        loadFile(COMPANY_REPS_FILE, CsvUserRepository::parseCompanyRepresentative);
+    }
+
+    /**
+     * Streams one user file and installs each parsed user.
+     *
+     * @param path the CSV file
+     * @param parser the record parser
+     */
+    private void loadFile(String path, Function<CsvReader, ? extends User> parser) {
+        long start = System.nanoTime();
+        int loaded = 0;
+        try (CsvReader csv = new CsvReader(new BufferedReader(new FileReader(path)))) {
+            csv.next(); // Skip header
+            while (csv.next()) {
+                User user = parser.apply(csv);
+                if (user != null) {
+                    install(user);
+                    loaded++;
                 }
             }
-        } catch (Exception e) {
-            System.err.println("Error loading company representatives: " + e.getMessage());
+        } catch (IOException e) {
+            System.err.println("Error loading " + path + ": " + e.getMessage());
+        }
+        UIHelper.printLoadTiming(path, loaded, System.nanoTime() - start);
+    }
+
+    /**
+     * Adds a loaded user and points it at this repository's collaborators.
+     *
+     * @param user the user
+     */
+    private void install(User user) {
+        if (user.isStudent()) {
+            user.asStudent().setInternshipRepository(internshipRepository);
+            user.asStudent().setApplicationRepository(applicationRepository);
+        } else if (user.isCompanyRepresentative()) {
+            user.asCompanyRepresentative().setInternshipRepository(internshipRepository);
+            user.asCompanyRepresentative().setApplicationRepository(applicationRepository);
+        } else if (user.isCareerCenterStaff()) {
+            user.asCareerCenterStaff().setUserRepository(this);
+            user.asCareerCenterStaff().setInternshipRepository(internshipRepository);
+            user.asCareerCenterStaff().setApplicationRepository(applicationRepository);
+        }
+        long stamp = LOCK.writeLock();
+        try {
+            users = users.append(user);
+            usersById.putIfAbsent(normalizeId(user.getUserID()), user);
+        } finally {
+            LOCK.unlockWrite(stamp);
+        }
+        user.markPersisted(user.getVersion());
+        user.setChangeListener(changeForwarder);
+    }
+
+    /**
+     * Parses one row of the student file. Repository references are wired
+     * when the student is installed.
+     *
+     * @param line the CSV line
+     * @return the student, or null if the row is blank, incomplete or invalid
+     */
+    static Student parseStudent(String line) {
+        CsvReader record = CsvReader.parseRecord(line);
+        return record == null ? null : parseStudent(record);
+    }
+
+    /**
+     * Parses the current record of the student file.
+     *
+     * @param record the reader positioned on the record
+     * @return the student, or null if the record is incomplete or invalid
+     */
+    private static Student parseStudent(CsvReader record) {
+        if (record.size() < 7) {
+            return null;
+        }
+        try {
+            String userID = record.get(0);
+            String name = record.get(1);
+            String major = record.get(2);
+            int year = record.getInt(3);
+            double gpa = record.getDouble(4);
+            String passwordHash = record.get(5);
+            String salt = record.get(6);
+            return new Student(userID, name, passwordHash, salt, year, major, gpa, null, null);
+        } catch (NumberFormatException e) {
+            System.err.println("Error parsing student line: " + record.get(0));
+            return null;
         }
     }
 
+    /**
+     * Parses one row of the staff file. Repository references are wired
+     * when the staff member is installed.
+     *
+     * @param line the CSV line
+     * @return the staff member, or null if the row is blank or incomplete
+     */
+    static CareerCenterStaff parseStaff(String line) {
+        CsvReader record = CsvReader.parseRecord(line);
+        return record == null ? null : parseStaff(record);
+    }
+
+    /**
+     * Parses the current record of the staff file.
+     *
+     * @param record the reader positioned on the record
+     * @return the staff member, or null if the record is incomplete
+     */
+    private static CareerCenterStaff parseStaff(CsvReader record) {
+        if (record.size() < 5) {
+            return null;
+        }
+        String userID = record.get(0);
+        String name = record.get(1);
+        String department = record.get(2);
+        String passwordHash = record.get(3);
+        String salt = record.get(4);
+        return new CareerCenterStaff(userID, name, passwordHash, salt, department, null, null, null);
+    }
+
+    /**
+     * Parses one row of the company representative file. Repository
+     * references are wired when the representative is installed.
+     *
+     * @param line the CSV line
+     * @return the representative, or null if the row is blank or incomplete
+     */
+    static CompanyRepresentative parseCompanyRepresentative(String line) {
+        CsvReader record = CsvReader.parseRecord(line);
+        return record == null ? null : parseCompanyRepresentative(record);
+    }
+
+    /**
+     * Parses the current record of the company representative file.
+     *
+     * @param record the reader positioned on the record
+     * @return the representative, or null if the record is incomplete
+     */
+    private static CompanyRepresentative parseCompanyRepresentative(CsvReader record) {
+        if (record.size() < 9) {
+            return null;
+        }
+        String userID = record.get(0);
+        String name = record.get(1);
+        String companyName = record.get(2);
+        String department = record.get(3);
+        String position = record.get(4);
+        String email = record.get(5);
+        String passwordHash = record.get(6);
+        String salt = record.get(7);
+        String status = record.get(8);
+        CompanyRepresentative rep = new CompanyRepresentative(userID, name, passwordHash, salt, companyName, department, position, email, null, null);
+        if ("Approved".equalsIgnoreCase(status)) {
+            rep.setApproved(true);
+        }
+        return rep;
+    }
+
     /**
      * Saves students to CSV file.
      */
     private void saveStudents() throws IOException {
-        try (PrintWriter pw = new PrintWriter(new FileWriter("data/sample_student_list.csv"))) {
-            pw.println("UserID,Name,Major,Year,GPA,PasswordHash,Salt");
-            for (User user : users) {
-                if (user.isStudent()) {
-                    Student student = user.asStudent();
-                    pw.printf("%s,%s,%s,%d,%.1f,%s,%s%n",
-                        student.getUserID(),
-                        student.getName(),
-                        student.getMajor(),
-                        student.getYearOfStudy(),
-                        student.getGpa(),
-                        student.getPasswordHash(),
-                        student.getSalt());
-                }
+        CsvWriter csv = new CsvWriter();
+        List<User> fileUsers;
+        int[] versions;
+        long stamp = LOCK.writeLock();
+        try {
+            fileUsers = usersToSave(STUDENTS_FILE);
+            if (fileUsers == null) {
+                return;
             }
+            versions = new int[fileUsers.size()];
+            csv.header("UserID,Name,Major,Year,GPA,PasswordHash,Salt");
+            for (int i = 0; i < fileUsers.size(); i++) {
+                Student student = fileUsers.get(i).asStudent();
+                versions[i] = student.getVersion();
+                csv.field(student.getUserID())
+                    .field(student.getName())
+                    .field(student.getMajor())
+                    .field(student.getYearOfStudy())
+                    .field(String.format("%.1f", student.getGpa()))
+                    .field(student.getPasswordHash())
+                    .field(student.getSalt())
+                    .endRecord();
+            }
+        } finally {
+            LOCK.unlockWrite(stamp);
         }
+        writeFile(STUDENTS_FILE, csv.toString(), fileUsers, versions);
     }
 
     /**
      * Saves staff to CSV file.
      */
     private void saveStaff() throws IOException {
-        try (PrintWriter pw = new PrintWriter(new FileWriter("data/sample_staff_list.csv"))) {
-            pw.println("UserID,Name,Department,PasswordHash,Salt");
-            for (User user : users) {
-                if (user.isCareerCenterStaff()) {
-                    CareerCenterStaff staff = user.asCareerCenterStaff();
-                    pw.printf("%s,%s,%s,%s,%s%n",
-                        staff.getUserID(),
-                        staff.getName(),
-                        staff.getStaffDepartment(),
-                        staff.getPasswordHash(),
-                        staff.getSalt());
-                }
+        CsvWriter csv = new CsvWriter();
+        List<User> fileUsers;
+        int[] versions;
+        long stamp = LOCK.writeLock();
+        try {
+            fileUsers = usersToSave(STAFF_FILE);
+            if (fileUsers == null) {
+                return;
+            }
+            versions = new int[fileUsers.size()];
+            csv.header("UserID,Name,Department,PasswordHash,Salt");
+            for (int i = 0; i < fileUsers.size(); i++) {
+                CareerCenterStaff staff = fileUsers.get(i).asCareerCenterStaff();
+                versions[i] = staff.getVersion();
+                csv.field(staff.getUserID())
+                    .field(staff.getName())
+                    .field(staff.getStaffDepartment())
+                    .field(staff.getPasswordHash())
+                    .field(staff.getSalt())
+                    .endRecord();
             }
+        } finally {
+            LOCK.unlockWrite(stamp);
         }
+        writeFile(STAFF_FILE, csv.toString(), fileUsers, versions);
     }
 
     /**
      * Saves company representatives to CSV file.
      */
     private void saveCompanyRepresentatives() throws IOException {
-        try (PrintWriter pw = new PrintWriter(new FileWriter("data/sample_company_representative_list.csv"))) {
-            pw.println("CompanyRepID,Name,CompanyName,Department,Position,Email,PasswordHash,Salt,Status");
-            for (User user : users) {
-                if (user.isCompanyRepresentative()) {
-                    CompanyRepresentative rep = user.asCompanyRepresentative();
-                    String status = rep.isApproved() ? "Approved" : (rep.isRejected() ? "Rejected" : "Pending");
-                    pw.printf("%s,%s,%s,%s,%s,%s,%s,%s,%s%n",
-                        rep.getUserID(),
-                        rep.getName(),
-                        rep.getCompanyName(),
-                        rep.getDepartment(),
-                        rep.getPosition(),
-                        rep.getEmail(),
-                        rep.getPasswordHash(),
-                        rep.getSalt(),
-                        status);
-                }
+        CsvWriter csv = new CsvWriter();
+        List<User> fileUsers;
+        int[] versions;
+        long stamp = LOCK.writeLock();
+        try {
+            fileUsers = usersToSave(COMPANY_REPS_FILE);
+            if (fileUsers == null) {
+                return;
+            }
+            versions = new int[fileUsers.size()];
+            csv.header("CompanyRepID,Name,CompanyName,Department,Position,Email,PasswordHash,Salt,Status");
+            for (int i = 0; i < fileUsers.size(); i++) {
+                CompanyRepresentative rep = fileUsers.get(i).asCompanyRepresentative();
+                versions[i] = rep.getVersion();
+                String status = rep.getApprovalStatus();
+                csv.field(rep.getUserID())
+                    .field(rep.getName())
+                    .field(rep.getCompanyName())
+                    .field(rep.getDepartment())
+                    .field(rep.getPosition())
+                    .field(rep.getEmail())
+                    .field(rep.getPasswordHash())
+                    .field(rep.getSalt())
+                    .field(status)
+                    .endRecord();
             }
+        } finally {
+            LOCK.unlockWrite(stamp);
         }
+        writeFile(COMPANY_REPS_FILE, csv.toString(), fileUsers, versions);
     }
 
     /**
@@ -296,6 +688,6 @@ public class CsvUserRepository implements IUserRepository {
      */
     @Override
     public String generateCompanyRepId() {
-        return "CR" + String.format("%03d", companyRepCounter++);
+        return "CR" + String.format("%03d", companyRepCounter.getAndIncrement());
     }
 }
\ No newline at end of file
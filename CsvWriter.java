@@ -0,0 +1,185 @@
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * CSV writer shared by the CSV repositories.
+ * Renders records into one growing buffer, which the repositories write to
+ * disk in a single call once rendering is done. A field is quoted only when
+ * it contains a comma, a quote or a line break (RFC 4180), so files written
+ * from data without those characters are unchanged.
+ */
+public class CsvWriter {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final StringBuilder out = new StringBuilder(4096);
+    private boolean firstField = true;
+
+    /**
+     * Writes a header line as-is, followed by a line break.
+     *
+     * @param header the comma-separated column names
+     */
+    public void header(String header) {
+        out.append(header);
+        endRecord();
+    }
+
+    /**
+     * Writes a text field, quoting it if needed. A null value is written as an empty field.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public CsvWriter field(String value) {
+        separate();
+        if (value == null) {
+            return this;
+        }
+        if (!needsQuoting(value)) {
+            out.append(value);
+            return this;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+        return this;
+    }
+
+    /**
+     * Writes an int field.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public CsvWriter field(int value) {
+        separate();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Writes a long field.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public CsvWriter field(long value) {
+        separate();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Writes a double field.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public CsvWriter field(double value) {
+        separate();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Writes a boolean field.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    public CsvWriter field(boolean value) {
+        separate();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Ends the current record.
+     *
+     */
+    public void endRecord() {
+        out.append(LINE_SEPARATOR);
+        firstField = true;
+    }
+
+    private void separate() {
+        if (!firstField) {
+            out.append(',');
+        }
+        firstField = false;
+    }
+
+    /**
+     * Checks if a value must be quoted to survive a round trip. Values with
+     * surrounding whitespace are quoted too, since unquoted fields are trimmed
+     * when read.
+     *
+     * @param value the value
+     * @return true if the value needs quotes
+     */
+    private static boolean needsQuoting(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        if (value.charAt(0) <= ' ' || value.charAt(value.length() - 1) <= ' ') {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Replaces a file with new content without ever leaving a partly written
+     * file in its place. The content is written and synced to a temporary
+     * file in the same directory, which is then renamed over the target, so
+     * after a crash or a full disk the target holds either the old or the
+     * new content.
+     *
+     * @param path the file to replace
+     * @param content the new content
+     * @throws IOException if the content could not be written or moved into place
+     */
+    public static void replaceFile(String path, byte[] content) throws IOException {
+        Path target = Paths.get(path).toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+        try {
+            try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+                out.write(content);
+                out.getFD().sync();
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp); // only still there if the write or the move failed
+        }
+    }
+
+    /**
+     * Gets everything rendered so far.
+     *
+     * @return the CSV text
+     */
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+}
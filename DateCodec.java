@@ -0,0 +1,97 @@
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Encodes and decodes the dates stored in the CSV files.
+ * The current format stores calendar dates as epoch days and timestamps as
+ * epoch milliseconds. Files written before that used {@code dd/MM/yyyy}
+ * dates and {@link java.util.Date#toString()} timestamps; those are still
+ * accepted when reading, so old files load and are upgraded on their next save.
+ * All formatters are immutable, so this class is safe to use from any thread.
+ */
+public final class DateCodec {
+    private static final DateTimeFormatter LEGACY_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy", Locale.ROOT);
+    private static final DateTimeFormatter LEGACY_TIMESTAMP = DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy", Locale.US);
+
+    private DateCodec() {
+    }
+
+    /**
+     * Encodes the calendar date of a timestamp as an epoch day in the system time zone.
+     *
+     * @param epochMillis the timestamp
+     * @return the epoch day
+     */
+    public static long toEpochDay(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Decodes a stored calendar date to the start of that day in the system
+     * time zone. Accepts an epoch day or a legacy {@code dd/MM/yyyy} date.
+     *
+     * @param field the stored value
+     * @return the timestamp at the start of the day
+     * @throws IllegalArgumentException if the value is in neither format
+     */
+    public static long parseDay(String field) {
+        LocalDate date;
+        try {
+            date = isInteger(field) ? LocalDate.ofEpochDay(Long.parseLong(field)) : LocalDate.parse(field, LEGACY_DATE);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid date: " + field, e);
+        }
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Decodes a stored timestamp. Accepts epoch milliseconds or a legacy
+     * {@code Date.toString()} value.
+     *
+     * @param field the stored value
+     * @return the timestamp in epoch milliseconds
+     * @throws IllegalArgumentException if the value is in neither format
+     */
+    public static long parseTimestamp(String field) {
+        if (isInteger(field)) {
+            return Long.parseLong(field);
+        }
+        try {
+            return ZonedDateTime.parse(field, LEGACY_TIMESTAMP).toInstant().toEpochMilli();
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid timestamp: " + field, e);
+        }
+    }
+
+    /**
+     * Formats the calendar date of a timestamp as {@code dd/MM/yyyy} for display.
+     *
+     * @param epochMillis the timestamp
+     * @return the formatted date
+     */
+    public static String formatDate(long epochMillis) {
+        return LEGACY_DATE.format(Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()));
+    }
+
+    private static boolean isInteger(String field) {
+        if (field.isEmpty()) {
+            return false;
+        }
+        int start = field.charAt(0) == '-' ? 1 : 0;
+        if (start == field.length()) {
+            return false;
+        }
+        for (int i = start; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
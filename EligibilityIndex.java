@@ -0,0 +1,254 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Singleton index of the internships students can currently see, bucketed by
+ * preferred major and level with each bucket sorted by minimum GPA. A
+ * student's eligible internships are the GPA-qualified prefix of each bucket
+ * for their major and permitted levels, found by binary search, so the
+ * catalogue is never rescanned. The index follows internship change events,
+ * so approving, hiding or editing an internship moves it immediately.
+ * <p>
+ * Each major carries a version that is bumped only when an internship enters,
+ * leaves or moves within its buckets. The most recently used students'
+ * eligible lists are cached against that version, so repeat lookups return
+ * the same list until an internship the student could see actually changes.
+ */
+public class EligibilityIndex {
+    private static final String BASIC_LEVEL = "basic"; // the only level open to year 1-2 students
+    private static final int CACHE_SIZE = Integer.getInteger("ipms.eligibilityCacheSize", 256);
+    private static EligibilityIndex instance;
+    private IInternshipRepository internshipRepository;
+    private ChangeEventBus.Subscription subscription;
+    private final Map<String, Map<String, List<Entry>>> buckets = new HashMap<>(); // major -> level -> entries by minGPA
+    private final Map<InternshipOpportunity, Entry> indexed = new IdentityHashMap<>(); // visible internships and their bucket keys
+    private final Map<InternshipOpportunity, Long> positions = new IdentityHashMap<>(); // catalogue order of every known internship
+    private long nextPosition = 0;
+    private final Map<String, Long> majorVersions = new HashMap<>(); // bumped when a major's buckets change
+    private final Map<String, CachedList> cache = new LinkedHashMap<>(16, 0.75f, true) { // keyed by student ID, least recently used first
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedList> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private EligibilityIndex() {}
+
+    /**
+     * Gets the singleton instance of EligibilityIndex.
+     *
+     * @return the instance
+     */
+    public static synchronized EligibilityIndex getInstance() {
+        if (instance == null) {
+            instance = new EligibilityIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * Builds the index from the repository and subscribes to its internship
+     * changes. Calling it again with the same repository does nothing.
+     *
+     * @param internshipRepository the internship repository
+     */
+    public synchronized void initialize(IInternshipRepository internshipRepository) {
+        if (this.internshipRepository == internshipRepository) {
+            return;
+        }
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        this.internshipRepository = internshipRepository;
+        buckets.clear();
+        indexed.clear();
+        positions.clear();
+        nextPosition = 0;
+        majorVersions.clear();
+        cache.clear();
+        subscription = internshipRepository.getEventBus().subscribe(InternshipOpportunity.class, this::onInternshipEvent);
+        internshipRepository.forEachInternship(this::reindex);
+    }
+
+    /**
+     * Gets the internships a student is eligible for, in catalogue order.
+     * The list is cached until an internship in the student's major changes.
+     *
+     * @param student the student
+     * @return an unmodifiable list of the visible, approved internships
+     *         matching the student's major, year of study and GPA
+     */
+    public synchronized List<InternshipOpportunity> getEligibleInternships(Student student) {
+        String major = normalize(student.getMajor());
+        long version = majorVersions.getOrDefault(major, 0L);
+        CachedList cached = cache.get(student.getUserID());
+        if (cached != null && cached.student == student && cached.version == version) {
+            return cached.internships;
+        }
+        List<InternshipOpportunity> internships = findEligible(student, major);
+        cache.put(student.getUserID(), new CachedList(student, version, internships));
+        return internships;
+    }
+
+    /**
+     * Gets the number of students whose eligible lists are cached.
+     *
+     * @return the cache size
+     */
+    public synchronized int getCachedStudentCount() {
+        return cache.size();
+    }
+
+    private List<InternshipOpportunity> findEligible(Student student, String major) {
+        Map<String, List<Entry>> levels = buckets.get(major);
+        List<Entry> eligible = new ArrayList<>();
+        if (levels != null) {
+            if (student.getYearOfStudy() <= 2) {
+                addQualified(levels.get(BASIC_LEVEL), student.getGpa(), eligible);
+            } else {
+                for (List<Entry> bucket : levels.values()) {
+                    addQualified(bucket, student.getGpa(), eligible);
+                }
+            }
+        }
+        eligible.sort(Comparator.comparingLong(e -> e.position));
+        List<InternshipOpportunity> result = new ArrayList<>(eligible.size());
+        for (Entry entry : eligible) {
+            result.add(entry.internship);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private synchronized void onInternshipEvent(ChangeEvent<InternshipOpportunity> event) {
+        if (event.getKind() == ChangeEvent.Kind.REMOVED) {
+            unindex(event.getEntity());
+            positions.remove(event.getEntity());
+        } else {
+            reindex(event.getEntity());
+        }
+    }
+
+    /**
+     * Appends the entries of a bucket whose minimum GPA the student meets.
+     *
+     * @param bucket the bucket, sorted by minimum GPA, or null
+     * @param gpa the student's GPA
+     * @param out the list to append to
+     */
+    private static void addQualified(List<Entry> bucket, double gpa, List<Entry> out) {
+        if (bucket == null) {
+            return;
+        }
+        out.addAll(bucket.subList(0, upperBound(bucket, gpa)));
+    }
+
+    /**
+     * Finds the number of leading entries whose minimum GPA is at most the given GPA.
+     *
+     * @param bucket the bucket, sorted by minimum GPA
+     * @param gpa the GPA
+     * @return the index of the first entry requiring more than the GPA
+     */
+    private static int upperBound(List<Entry> bucket, double gpa) {
+        int low = 0;
+        int high = bucket.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (bucket.get(mid).minGPA <= gpa) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Moves an internship to the bucket matching its current fields, or out
+     * of the index if students can no longer see it. Every change event,
+     * including status changes such as Approved to Filled, comes through here.
+     *
+     * @param internship the internship
+     */
+    private void reindex(InternshipOpportunity internship) {
+        Long position = positions.computeIfAbsent(internship, k -> nextPosition++);
+        boolean visible = internship.isVisible()
+            && InternshipOpportunity.STATUS_APPROVED.equals(internship.getStatus())
+            && internship.getPreferredMajor() != null && internship.getLevel() != null;
+        Entry entry = visible ? new Entry(internship, position) : null;
+        Entry current = indexed.get(internship);
+        if (entry == null ? current == null : entry.sameBucketAs(current)) {
+            return; // a change students cannot see, e.g. the title
+        }
+        unindex(internship);
+        if (entry == null) {
+            return;
+        }
+        majorVersions.merge(entry.major, 1L, Long::sum);
+        List<Entry> bucket = buckets.computeIfAbsent(entry.major, k -> new HashMap<>())
+            .computeIfAbsent(entry.level, k -> new ArrayList<>());
+        bucket.add(upperBound(bucket, entry.minGPA), entry);
+        indexed.put(internship, entry);
+    }
+
+    private void unindex(InternshipOpportunity internship) {
+        Entry entry = indexed.remove(internship);
+        if (entry == null) {
+            return;
+        }
+        List<Entry> bucket = buckets.get(entry.major).get(entry.level);
+        bucket.remove(entry);
+        majorVersions.merge(entry.major, 1L, Long::sum);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * An indexed internship with the bucket keys and GPA it was filed under.
+     */
+    private static final class Entry {
+        private final InternshipOpportunity internship;
+        private final String major;
+        private final String level;
+        private final double minGPA;
+        private final long position;
+
+        private Entry(InternshipOpportunity internship, long position) {
+            this.internship = internship;
+            this.major = normalize(internship.getPreferredMajor());
+            this.level = normalize(internship.getLevel());
+            this.minGPA = internship.getMinGPA();
+            this.position = position;
+        }
+
+        private boolean sameBucketAs(Entry other) {
+            return other != null && major.equals(other.major) && level.equals(other.level) && minGPA == other.minGPA;
+        }
+    }
+
+    /**
+     * A student's eligible list and the major version it was computed at.
+     * Students' major, year and GPA never change, so the student instance
+     * identifies the inputs.
+     */
+    private static final class CachedList {
+        private final Student student;
+        private final long version;
+        private final List<InternshipOpportunity> internships;
+
+        private CachedList(Student student, long version, List<InternshipOpportunity> internships) {
+            this.student = student;
+            this.version = version;
+            this.internships = internships;
+        }
+    }
+}
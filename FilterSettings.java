@@ -1,9 +1,17 @@
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Holds and applies filtering and sorting settings for internship opportunities.
+ * The settings are compiled into one predicate and sort key the first time
+ * they are applied after a change, and the last result is kept so viewing the
+ * same list again before the catalogue or settings change does no work.
+ * Large lists are not sorted at all: the repository's view for the sort key is
+ * walked in order and filtered instead.
  */
 class FilterSettings {
     private String statusFilter = "";
@@ -11,6 +19,14 @@ class FilterSettings {
     private String majorFilter = "";
     private double minGPAFilter = 0.0; // Minimum GPA filter
     private String sortBy = "title"; // Default sort by title (alphabetical)
+    private int generation = 0; // bumped by every change to the settings
+    private int compiledGeneration = -1;
+    private Predicate<InternshipOpportunity> compiledFilter;
+    private InternshipSortKey compiledSortKey;
+    private List<InternshipOpportunity> cachedInput; // input of the last memoized call, compared by identity
+    private long cachedCatalogueVersion;
+    private int cachedGeneration = -1;
+    private List<InternshipOpportunity> cachedResult;
 
     /**
      * Sets the status filter.
@@ -22,35 +38,35 @@ class FilterSettings {
       *
       * @param status the status to filter by
       */
-     public void setStatusFilter(String status) { this.statusFilter = status; }
+     public void setStatusFilter(String status) { this.statusFilter = status; generation++; }
 
      /**
       * Sets the level filter.
       *
       * @param level the level to filter by
       */
-     public void setLevelFilter(String level) { this.levelFilter = level; }
+     public void setLevelFilter(String level) { this.levelFilter = level; generation++; }
 
     /**
      * Sets the major filter.
      *
      * @param major the major to filter by
      */
-    public void setMajorFilter(String major) { this.majorFilter = major; }
+    public void setMajorFilter(String major) { this.majorFilter = major; generation++; }
 
     /**
      * Sets the minimum GPA filter.
      *
      * @param minGPA the minimum GPA
      */
-    public void setMinGPAFilter(double minGPA) { this.minGPAFilter = minGPA; }
+    public void setMinGPAFilter(double minGPA) { this.minGPAFilter = minGPA; generation++; }
 
     /**
      * Sets the sort by field.
      *
      * @param sortBy the field to sort by
      */
-    public void setSortBy(String sortBy) { this.sortBy = sortBy; }
+    public void setSortBy(String sortBy) { this.sortBy = sortBy; generation++; }
 
     /**
      * Gets the status filter.
@@ -104,6 +120,7 @@ class FilterSettings {
         levelFilter = "";
         majorFilter = "";
         minGPAFilter = 0.0;
+        generation++;
     }
 
     /**
@@ -113,33 +130,107 @@ class FilterSettings {
      * @return the filtered and sorted list
      */
     public List<InternshipOpportunity> applyFilters(List<InternshipOpportunity> opportunities) {
-        return opportunities.stream()
-            .filter(opp -> statusFilter.isEmpty() || opp.getStatus().equalsIgnoreCase(statusFilter))
-            .filter(opp -> levelFilter.isEmpty() || levelFilter.equalsIgnoreCase("All") || opp.getLevel().equalsIgnoreCase(levelFilter))
-            .filter(opp -> majorFilter.isEmpty() || majorFilter.equalsIgnoreCase("All") || getMappedMajor(majorFilter).equalsIgnoreCase(opp.getPreferredMajor()))
-            .filter(opp -> minGPAFilter == 0.0 || opp.getMinGPA() >= minGPAFilter)
-            .sorted(getComparator())
-            .collect(Collectors.toList());
+        compile();
+        List<InternshipOpportunity> result = new ArrayList<>();
+        for (InternshipOpportunity opp : opportunities) {
+            if (compiledFilter == null || compiledFilter.test(opp)) {
+                result.add(opp);
+            }
+        }
+        result.sort(compiledSortKey.getComparator());
+        return result;
+    }
+
+    /**
+     * Applies the filters and sorting to a list of opportunities drawn from a
+     * repository, reusing the previous result if the list, the catalogue
+     * version and the settings are all unchanged since the last call.
+     *
+     * @param opportunities the list of opportunities
+     * @param catalogue the repository the list was read from
+     * @return the filtered and sorted list, which must not be modified
+     */
+    public List<InternshipOpportunity> applyFilters(List<InternshipOpportunity> opportunities, IInternshipRepository catalogue) {
+        long catalogueVersion = catalogue.getCatalogueVersion();
+        if (opportunities == cachedInput && catalogueVersion == cachedCatalogueVersion && generation == cachedGeneration) {
+            return cachedResult;
+        }
+        compile();
+        List<InternshipOpportunity> sorted = catalogue.getInternshipsSortedBy(compiledSortKey);
+        List<InternshipOpportunity> result = Collections.unmodifiableList(cheaperToSort(opportunities.size(), sorted.size())
+            ? applyFilters(opportunities)
+            : walk(sorted, opportunities));
+        cachedInput = opportunities;
+        cachedCatalogueVersion = catalogueVersion;
+        cachedGeneration = generation;
+        cachedResult = result;
+        return result;
+    }
+
+    /**
+     * Collects the opportunities that pass the filters by walking a view that
+     * is already in the wanted order.
+     *
+     * @param sorted every internship in the compiled sort order
+     * @param opportunities the opportunities to keep
+     * @return the filtered opportunities in sorted order
+     */
+    private List<InternshipOpportunity> walk(List<InternshipOpportunity> sorted, List<InternshipOpportunity> opportunities) {
+        Set<InternshipOpportunity> wanted = Collections.newSetFromMap(new IdentityHashMap<>());
+        wanted.addAll(opportunities);
+        List<InternshipOpportunity> result = new ArrayList<>();
+        for (InternshipOpportunity opp : sorted) {
+            if (wanted.contains(opp) && (compiledFilter == null || compiledFilter.test(opp))) {
+                result.add(opp);
+            }
+        }
+        return result;
     }
 
     /**
-     * Gets the comparator for sorting.
+     * Checks whether sorting a short list beats walking the whole catalogue.
      *
-     * @return the comparator
+     * @param listSize the number of opportunities to sort
+     * @param catalogueSize the number of internships in the catalogue
+     * @return true if n log n on the list is below one pass over the catalogue
+     */
+    private static boolean cheaperToSort(int listSize, int catalogueSize) {
+        int log = 32 - Integer.numberOfLeadingZeros(Math.max(listSize, 1));
+        return (long) listSize * log < catalogueSize;
+    }
+
+    /**
+     * Compiles the current settings into a single predicate, holding only the
+     * active criteria with their constants resolved up front, and a sort key.
      */
-    private Comparator<InternshipOpportunity> getComparator() {
-        switch (sortBy.toLowerCase()) {
-            case "title":
-                return Comparator.comparing(InternshipOpportunity::getTitle);
-            case "company":
-                return Comparator.comparing(opp -> opp.getCreatedBy().getCompanyName());
-            case "level":
-                return Comparator.comparing(InternshipOpportunity::getLevel);
-            case "closing":
-                return Comparator.comparing(InternshipOpportunity::getClosingDate);
-            default:
-                return Comparator.comparing(InternshipOpportunity::getTitle);
+    private void compile() {
+        if (compiledGeneration == generation) {
+            return;
         }
+        Predicate<InternshipOpportunity> filter = null;
+        if (!statusFilter.isEmpty()) {
+            String status = statusFilter;
+            filter = and(filter, opp -> opp.getStatus().equalsIgnoreCase(status));
+        }
+        if (!levelFilter.isEmpty() && !levelFilter.equalsIgnoreCase("All")) {
+            String level = levelFilter;
+            filter = and(filter, opp -> opp.getLevel().equalsIgnoreCase(level));
+        }
+        if (!majorFilter.isEmpty() && !majorFilter.equalsIgnoreCase("All")) {
+            String major = getMappedMajor(majorFilter);
+            filter = and(filter, opp -> major.equalsIgnoreCase(opp.getPreferredMajor()));
+        }
+        if (minGPAFilter != 0.0) {
+            double minGPA = minGPAFilter;
+            filter = and(filter, opp -> opp.getMinGPA() >= minGPA);
+        }
+        compiledFilter = filter;
+        compiledSortKey = InternshipSortKey.fromSetting(sortBy);
+        compiledGeneration = generation;
+    }
+
+    private static Predicate<InternshipOpportunity> and(Predicate<InternshipOpportunity> first, Predicate<InternshipOpportunity> second) {
+        return first == null ? second : first.and(second);
     }
 
     /**
@@ -1,16 +1,33 @@
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing internship applications.
  */
 public interface IApplicationRepository {
     /**
-     * Gets all applications.
+     * Gets all applications as an immutable snapshot. The snapshot is shared, not
+     * copied, and does not change when applications are added or removed later.
      *
-     * @return list of all applications
+     * @return snapshot of all applications
      */
     List<Application> getAllApplications();
 
+    /**
+     * Performs an action for each application without materializing a list.
+     *
+     * @param action the action to perform
+     */
+    void forEachApplication(Consumer<? super Application> action);
+
+    /**
+     * Streams all applications without materializing a list.
+     *
+     * @return a sequential stream over the current applications
+     */
+    Stream<Application> streamApplications();
+
     /**
      * Gets an application by ID.
      *
@@ -19,6 +36,38 @@ public interface IApplicationRepository {
      */
     Application getApplicationById(String applicationId);
 
+    /**
+     * Gets all applications submitted by a student.
+     *
+     * @param studentId the student ID
+     * @return list of the student's applications
+     */
+    List<Application> getApplicationsByStudent(String studentId);
+
+    /**
+     * Gets all applications for an internship opportunity.
+     *
+     * @param opportunityId the opportunity ID
+     * @return list of applications for the opportunity
+     */
+    List<Application> getApplicationsByOpportunity(String opportunityId);
+
+    /**
+     * Gets all applications for internships created by a company representative.
+     *
+     * @param repId the company representative ID
+     * @return list of applications for the representative's internships
+     */
+    List<Application> getApplicationsByCompanyRep(String repId);
+
+    /**
+     * Gets all applications currently in the given status.
+     *
+     * @param status the application status
+     * @return list of applications with that status
+     */
+    List<Application> getApplicationsByStatus(ApplicationStatus status);
+
     /**
      * Adds a new application.
      *
@@ -26,6 +75,14 @@ public interface IApplicationRepository {
      */
     void addApplication(Application application);
 
+    /**
+     * Gets the bus on which this repository publishes a {@link ChangeEvent}
+     * for every application created, changed or removed.
+     *
+     * @return the event bus
+     */
+    ChangeEventBus getEventBus();
+
     /**
      * Saves all applications to persistent storage.
      */
@@ -0,0 +1,13 @@
+/**
+ * Listener notified whenever an application's status changes.
+ */
+public interface IApplicationStatusListener {
+    /**
+     * Called after the status of an application has changed.
+     *
+     * @param application the application whose status changed
+     * @param oldStatus the status before the change
+     * @param newStatus the status after the change
+     */
+    void onStatusChanged(Application application, ApplicationStatus oldStatus, ApplicationStatus newStatus);
+}
@@ -31,6 +31,22 @@ public interface ICompanyRepApplicationService {
      */
     boolean processApplication(String repId, String applicationId, boolean approve);
 
+    /**
+     * Gets the number of filled slots of an internship opportunity.
+     * Successful, Confirmed and Withdrawal Requested applications each fill a slot.
+     * @param opportunityId the opportunity ID
+     * @return the filled slot count
+     */
+    int getFilledSlots(String opportunityId);
+
+    /**
+     * Gets the number of applications for an internship opportunity in a status.
+     * @param opportunityId the opportunity ID
+     * @param status the application status
+     * @return the application count
+     */
+    int getApplicationCount(String opportunityId, ApplicationStatus status);
+
     /**
      * Approves an internship application.
      * @param applicationId the application ID to approve
@@ -0,0 +1,16 @@
+/**
+ * Listener notified whenever a field of an entity changes.
+ *
+ * @param <T> the entity type
+ */
+public interface IEntityChangeListener<T> {
+    /**
+     * Called after a field of an entity has changed.
+     *
+     * @param entity the changed entity
+     * @param property the name of the changed field
+     * @param before the value before the change
+     * @param after the value after the change
+     */
+    void onChanged(T entity, String property, Object before, Object after);
+}
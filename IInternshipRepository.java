@@ -1,16 +1,33 @@
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing internship opportunities.
  */
 public interface IInternshipRepository {
     /**
-     * Gets all internships.
+     * Gets all internships as an immutable snapshot. The snapshot is shared, not
+     * copied, and does not change when internships are added or removed later.
      *
-     * @return list of all internships
+     * @return snapshot of all internships
      */
     List<InternshipOpportunity> getAllInternships();
 
+    /**
+     * Performs an action for each internship without materializing a list.
+     *
+     * @param action the action to perform
+     */
+    void forEachInternship(Consumer<? super InternshipOpportunity> action);
+
+    /**
+     * Streams all internships without materializing a list.
+     *
+     * @return a sequential stream over the current internships
+     */
+    Stream<InternshipOpportunity> streamInternships();
+
     /**
      * Gets an internship by ID.
      *
@@ -33,6 +50,31 @@ public interface IInternshipRepository {
      */
     void removeInternship(String opportunityId);
 
+    /**
+     * Gets all internships in a listing order. The repository keeps each
+     * order up to date as internships change, so no sorting happens here.
+     *
+     * @param sortKey the order
+     * @return an immutable list of all internships in that order
+     */
+    List<InternshipOpportunity> getInternshipsSortedBy(InternshipSortKey sortKey);
+
+    /**
+     * Gets the catalogue version, which changes whenever an internship is
+     * added, removed or modified.
+     *
+     * @return the catalogue version
+     */
+    long getCatalogueVersion();
+
+    /**
+     * Gets the bus on which this repository publishes a {@link ChangeEvent}
+     * for every internship created, changed or removed.
+     *
+     * @return the event bus
+     */
+    ChangeEventBus getEventBus();
+
     /**
      * Saves all internships to persistent storage.
      */
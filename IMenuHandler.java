@@ -6,4 +6,13 @@ public interface IMenuHandler {
      * Displays the menu and handles user interactions.
      */
     void showMenu();
+
+    /**
+     * Checks if the user chose to log out of this menu. The state belongs to
+     * the handler, so logging out of one session does not end another
+     * session of the same account.
+     *
+     * @return true once the user has logged out
+     */
+    boolean isLoggedOut();
 }
\ No newline at end of file
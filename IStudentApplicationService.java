@@ -10,5 +10,6 @@ public interface IStudentApplicationService {
     List<Application> getApplicationsForStudent(String studentId);
     List<InternshipOpportunity> getEligibleInternshipsForStudent(String studentId);
     List<Application> getApplicationsForInternship(String opportunityId);
+    int getFilledSlots(String opportunityId);
     IApplicationRepository getApplicationRepository();
 }
\ No newline at end of file
@@ -1,4 +1,6 @@
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import java.io.IOException;
 
@@ -7,12 +9,27 @@ import java.io.IOException;
  */
 public interface IUserRepository {
     /**
-     * Gets all users.
+     * Gets all users as an immutable snapshot. The snapshot is shared, not
+     * copied, and does not change when users are added or removed later.
      *
-     * @return list of all users
+     * @return snapshot of all users
      */
     List<User> getAllUsers();
 
+    /**
+     * Performs an action for each user without materializing a list.
+     *
+     * @param action the action to perform
+     */
+    void forEachUser(Consumer<? super User> action);
+
+    /**
+     * Streams all users without materializing a list.
+     *
+     * @return a sequential stream over the current users
+     */
+    Stream<User> streamUsers();
+
     /**
      * Gets a user by ID.
      *
@@ -40,6 +57,14 @@ public interface IUserRepository {
      */
     void saveUsers() throws IOException;
 
+    /**
+     * Gets the bus on which this repository publishes a {@link ChangeEvent}
+     * for every user created, changed or removed.
+     *
+     * @return the event bus
+     */
+    ChangeEventBus getEventBus();
+
     /**
      * Generates a new unique company representative ID.
      *
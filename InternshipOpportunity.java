@@ -1,4 +1,6 @@
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Represents an internship opportunity created by a company representative.
@@ -15,13 +17,18 @@ public class InternshipOpportunity {
     private String description;
     private String level;
     private String preferredMajor;
-    private Date openingDate;
-    private Date closingDate;
+    private long openingTime; // epoch millis
+    private long closingTime; // epoch millis
     private String status;
-    private int maxSlots;
+    private volatile int maxSlots;
     private boolean visibility;
     private double minGPA;
     private final CompanyRepresentative createdBy;
+    private int version; // bumped by every setter
+    private final AtomicIntegerArray applicationCounts = new AtomicIntegerArray(ApplicationStatus.values().length); // indexed by status ordinal
+    private final AtomicInteger slotsTaken = new AtomicInteger(); // slot-holding applications plus open reservations
+    private int persistedVersion = -1; // version last written to disk
+    private IEntityChangeListener<InternshipOpportunity> changeListener;
 
     /**
      * Constructs an InternshipOpportunity.
@@ -40,13 +47,34 @@ public class InternshipOpportunity {
     public InternshipOpportunity(String opportunityID, String title, String description,
                                 String level, String preferredMajor, Date openingDate,
                                 Date closingDate, int maxSlots, double minGPA, CompanyRepresentative createdBy) {
+        this(opportunityID, title, description, level, preferredMajor, openingDate.getTime(),
+            closingDate.getTime(), maxSlots, minGPA, createdBy);
+    }
+
+    /**
+     * Constructs an InternshipOpportunity with dates given as epoch milliseconds.
+     *
+     * @param opportunityID the unique ID
+     * @param title the title
+     * @param description the description
+     * @param level the level
+     * @param preferredMajor the preferred major
+     * @param openingTime the opening date in epoch milliseconds
+     * @param closingTime the closing date in epoch milliseconds
+     * @param maxSlots the max slots
+     * @param minGPA the min GPA
+     * @param createdBy the creator
+     */
+    public InternshipOpportunity(String opportunityID, String title, String description,
+                                String level, String preferredMajor, long openingTime,
+                                long closingTime, int maxSlots, double minGPA, CompanyRepresentative createdBy) {
         this.opportunityID = opportunityID;
         this.title = title;
         this.description = description;
         this.level = level;
         this.preferredMajor = preferredMajor;
-        this.openingDate = openingDate;
-        this.closingDate = closingDate;
+        this.openingTime = openingTime;
+        this.closingTime = closingTime;
         this.status = STATUS_PENDING;
         this.maxSlots = maxSlots;
         this.visibility = false;
@@ -60,8 +88,8 @@ public class InternshipOpportunity {
      * @return true if open
      */
     public boolean isOpen() {
-        Date now = new Date();
-        return now.after(openingDate) && now.before(closingDate) && 
+        long now = System.currentTimeMillis();
+        return now > openingTime && now < closingTime &&
                 !status.equals(STATUS_FILLED) && status.equals(STATUS_APPROVED);
     }
 
@@ -125,7 +153,7 @@ public class InternshipOpportunity {
      * @return the opening date
      */
     public Date getOpeningDate() {
-        return openingDate;
+        return new Date(openingTime);
     }
 
     /**
@@ -134,7 +162,25 @@ public class InternshipOpportunity {
      * @return the closing date
      */
     public Date getClosingDate() {
-        return closingDate;
+        return new Date(closingTime);
+    }
+
+    /**
+     * Gets the opening date without allocating.
+     *
+     * @return the opening date in epoch milliseconds
+     */
+    public long getOpeningTime() {
+        return openingTime;
+    }
+
+    /**
+     * Gets the closing date without allocating.
+     *
+     * @return the closing date in epoch milliseconds
+     */
+    public long getClosingTime() {
+        return closingTime;
     }
 
     /**
@@ -152,7 +198,9 @@ public class InternshipOpportunity {
      * @param status the status
      */
     public void setStatus(String status) {
+        String before = this.status;
         this.status = status;
+        changed("status", before, this.status);
     }
 
     /**
@@ -161,7 +209,9 @@ public class InternshipOpportunity {
      * @param title the title
      */
     public void setTitle(String title) {
+        String before = this.title;
         this.title = title;
+        changed("title", before, this.title);
     }
 
     /**
@@ -170,7 +220,9 @@ public class InternshipOpportunity {
      * @param description the description
      */
     public void setDescription(String description) {
+        String before = this.description;
         this.description = description;
+        changed("description", before, this.description);
     }
 
     /**
@@ -179,7 +231,9 @@ public class InternshipOpportunity {
      * @param level the level
      */
     public void setLevel(String level) {
+        String before = this.level;
         this.level = level;
+        changed("level", before, this.level);
     }
 
     /**
@@ -188,7 +242,9 @@ public class InternshipOpportunity {
      * @param preferredMajor the preferred major
      */
     public void setPreferredMajor(String preferredMajor) {
+        String before = this.preferredMajor;
         this.preferredMajor = preferredMajor;
+        changed("preferredMajor", before, this.preferredMajor);
     }
 
     /**
@@ -197,7 +253,9 @@ public class InternshipOpportunity {
      * @param openingDate the opening date
      */
     public void setOpeningDate(Date openingDate) {
-        this.openingDate = openingDate;
+        long before = this.openingTime;
+        this.openingTime = openingDate.getTime();
+        changed("openingTime", before, this.openingTime);
     }
 
     /**
@@ -206,7 +264,9 @@ public class InternshipOpportunity {
      * @param closingDate the closing date
      */
     public void setClosingDate(Date closingDate) {
-        this.closingDate = closingDate;
+        long before = this.closingTime;
+        this.closingTime = closingDate.getTime();
+        changed("closingTime", before, this.closingTime);
     }
 
     /**
@@ -215,7 +275,9 @@ public class InternshipOpportunity {
      * @param maxSlots the max slots
      */
     public void setMaxSlots(int maxSlots) {
+        int before = this.maxSlots;
         this.maxSlots = maxSlots;
+        changed("maxSlots", before, this.maxSlots);
     }
 
     /**
@@ -242,7 +304,9 @@ public class InternshipOpportunity {
      * @param visibility true to make visible
      */
     public void setVisibility(boolean visibility) {
+        boolean before = this.visibility;
         this.visibility = visibility;
+        changed("visibility", before, this.visibility);
     }
 
     /**
@@ -269,6 +333,176 @@ public class InternshipOpportunity {
      * @param minGPA the min GPA
      */
     public void setMinGPA(double minGPA) {
+        double before = this.minGPA;
         this.minGPA = minGPA;
+        changed("minGPA", before, this.minGPA);
+    }
+
+    /**
+     * Gets the number of applications for this opportunity in a status.
+     *
+     * @param status the application status
+     * @return the live count
+     */
+    public int getApplicationCount(ApplicationStatus status) {
+        return applicationCounts.get(status.ordinal());
+    }
+
+    /**
+     * Gets the number of slots taken. A slot is taken by every Successful,
+     * Confirmed or Withdrawal Requested application, since each of those may
+     * still end in a placement.
+     *
+     * @return the filled slot count
+     */
+    public int getFilledSlots() {
+        return applicationCounts.get(ApplicationStatus.SUCCESSFUL.ordinal())
+            + applicationCounts.get(ApplicationStatus.CONFIRMED.ordinal())
+            + applicationCounts.get(ApplicationStatus.WITHDRAWAL_REQUESTED.ordinal());
+    }
+
+    /**
+     * Reserves a slot for an application about to move into a slot-holding
+     * status. The check against max slots and the reservation are one
+     * compare-and-set, so concurrent approvals can never overbook. The
+     * reservation is handed to {@link Application#updateStatusWithReservedSlot},
+     * where it becomes the application's slot; if the change is abandoned the
+     * caller must {@link #releaseSlot() release} it.
+     *
+     * @return true if a slot was reserved, false if the internship is full
+     */
+    public boolean tryReserveSlot() {
+        while (true) {
+            int taken = slotsTaken.get();
+            if (taken >= maxSlots) {
+                return false;
+            }
+            if (slotsTaken.compareAndSet(taken, taken + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a reservation made by {@link #tryReserveSlot()}.
+     */
+    public void releaseSlot() {
+        slotsTaken.decrementAndGet();
+    }
+
+    /**
+     * Gets the number of slots still free.
+     *
+     * @return the available slot count, never negative
+     */
+    public int getAvailableSlots() {
+        return Math.max(0, maxSlots - getFilledSlots());
+    }
+
+    /**
+     * Checks if every slot is taken or reserved.
+     *
+     * @return true if no slot is available
+     */
+    public boolean isFull() {
+        return slotsTaken.get() >= maxSlots;
+    }
+
+    /**
+     * Counts a new application in the given status.
+     *
+     * @param status the status of the new application
+     */
+    void applicationAdded(ApplicationStatus status) {
+        applicationCounts.incrementAndGet(status.ordinal());
+        if (status.holdsSlot()) {
+            slotsTaken.incrementAndGet();
+        }
+    }
+
+    /**
+     * Moves an application between status counters. The new status is
+     * counted before the old one is released, so a concurrent reader may
+     * briefly over-count filled slots but never under-counts them.
+     *
+     * @param oldStatus the status before the change
+     * @param newStatus the status after the change
+     */
+    void applicationStatusChanged(ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+        applicationStatusChanged(oldStatus, newStatus, false);
+    }
+
+    /**
+     * Moves an application between status counters, optionally committing a
+     * slot reserved by {@link #tryReserveSlot()}. A reservation becomes the
+     * slot of an application entering a slot-holding status, so the slot is
+     * counted once; if the change takes no new slot it is released.
+     *
+     * @param oldStatus the status before the change
+     * @param newStatus the status after the change
+     * @param slotReserved true if the caller holds a reservation for this change
+     */
+    void applicationStatusChanged(ApplicationStatus oldStatus, ApplicationStatus newStatus, boolean slotReserved) {
+        applicationCounts.incrementAndGet(newStatus.ordinal());
+        boolean takesSlot = newStatus.holdsSlot() && !oldStatus.holdsSlot();
+        if (takesSlot && !slotReserved) {
+            slotsTaken.incrementAndGet();
+        } else if (!takesSlot && slotReserved) {
+            slotsTaken.decrementAndGet();
+        }
+        if (oldStatus.holdsSlot() && !newStatus.holdsSlot()) {
+            slotsTaken.decrementAndGet();
+        }
+        applicationCounts.decrementAndGet(oldStatus.ordinal());
+    }
+
+    /**
+     * Sets the listener notified after any field is modified.
+     *
+     * @param changeListener the listener, or null to detach
+     */
+    public void setChangeListener(IEntityChangeListener<InternshipOpportunity> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Bumps the modification version and notifies the change listener.
+     *
+     * @param property the name of the changed field
+     * @param before the value before the change
+     * @param after the value after the change
+     */
+    private void changed(String property, Object before, Object after) {
+        version++;
+        if (changeListener != null) {
+            changeListener.onChanged(this, property, before, after);
+        }
+    }
+
+    /**
+     * Gets the modification version.
+     *
+     * @return the version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks if the opportunity changed since it was last written to disk.
+     *
+     * @return true if unsaved changes exist
+     */
+    public boolean isDirty() {
+        return version != persistedVersion;
+    }
+
+    /**
+     * Records that the given version has been written to disk.
+     *
+     * @param version the version that was written
+     */
+    public void markPersisted(int version) {
+        this.persistedVersion = version;
     }
-}
\ No newline at end of file
+}
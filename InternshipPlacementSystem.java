@@ -1,3 +1,6 @@
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -5,10 +8,12 @@ import java.util.Scanner;
  * Manages user authentication, registration, and menu navigation.
  */
 public class InternshipPlacementSystem {
-    private final Scanner scanner = new Scanner(System.in);
+    private final Scanner scanner;
     private User currentUser = null;
     private IMenuHandler currentMenuHandler = null;
     private ServiceFactory serviceFactory;
+    private final boolean ownsServices; // false for a server session, which must not shut down shared services
+    private volatile boolean running = true;
 
     /**
      * Constructs the InternshipPlacementSystem and initializes services via DI container.
@@ -17,29 +22,95 @@ public class InternshipPlacementSystem {
         // Initialize DI container
         this.serviceFactory = new ServiceFactory();
         serviceFactory.initialize();
+        this.scanner = new Scanner(System.in);
+        this.ownsServices = true;
+        // Flush deferred writes even if the process is terminated without choosing Exit
+        Runtime.getRuntime().addShutdownHook(new Thread(serviceFactory::shutdown, "flush-on-exit"));
+    }
+
+    /**
+     * Constructs an InternshipPlacementSystem for one terminal session,
+     * sharing services that were already initialized.
+     *
+     * @param serviceFactory the shared DI container
+     * @param scanner the session's input
+     */
+    public InternshipPlacementSystem(ServiceFactory serviceFactory, Scanner scanner) {
+        this.serviceFactory = serviceFactory;
+        this.scanner = scanner;
+        this.ownsServices = false;
     }
 
     /**
      * Main entry point of the application.
      *
-     * @param args command line arguments
+     * @param args command line arguments; {@code --plain} writes box-drawing characters as ASCII,
+     *             {@code --server} serves terminal sessions on {@code ipms.serverPort} and
+     *             {@code --api} serves the JSON API on {@code ipms.apiPort}, instead of the console
      */
     public static void main(String[] args) {
+        List<String> options = Arrays.asList(args);
+        if (options.contains("--plain")) {
+            ConsoleRenderer.setPlain(true);
+        }
+        if (options.contains("--server") || options.contains("--api")) {
+            runServers(options.contains("--server"), options.contains("--api"));
+            return;
+        }
         UIHelper.printWelcomeBanner();
         new InternshipPlacementSystem().run();
     }
 
     /**
-     * Runs the main application loop.
+     * Serves terminal sessions, the JSON API or both, sharing one set of
+     * services, until the process is terminated.
+     *
+     * @param terminal true to serve terminal sessions
+     * @param api true to serve the JSON API
+     */
+    private static void runServers(boolean terminal, boolean api) {
+        ServiceFactory serviceFactory = new ServiceFactory();
+        serviceFactory.initialize();
+        TerminalServer server = new TerminalServer(serviceFactory);
+        ApiServer apiServer = new ApiServer(serviceFactory);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.shutdown();
+            apiServer.shutdown();
+            serviceFactory.shutdown();
+        }, "flush-on-exit"));
+        try {
+            if (api) {
+                apiServer.start(ApiServer.PORT); // keeps the process alive on its dispatcher thread
+            }
+            if (terminal) {
+                server.serve(TerminalServer.PORT);
+            }
+        } catch (IOException e) {
+            System.err.println("Error starting server: " + e.getMessage());
+            apiServer.shutdown();
+        }
+    }
+
+    /**
+     * Ends the main loop after the current menu returns.
      */
-    private void run() {
-        while (true) {
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Runs the main application loop until the user exits or {@link #stop()} is called.
+     */
+    public void run() {
+        while (running) {
+            ConsoleRenderer.reset(); // drop any screen an exception left unfinished
             if (currentUser == null) {
                 showMainMenu();
             } else {
-                getMenuHandler().showMenu();
-                // Check if user logged out
-                if (currentUser != null && !currentUser.isLoggedIn()) {
+                IMenuHandler menuHandler = getMenuHandler();
+                menuHandler.showMenu();
+                // Check if user logged out of this session; other sessions may share the User
+                if (menuHandler.isLoggedOut()) {
                     currentUser = null;
                     currentMenuHandler = null; // Clear cached menu handler
                 }
@@ -95,7 +166,11 @@ public class InternshipPlacementSystem {
                     } catch (Exception e) {
                         System.err.println("Error saving data on exit: " + e.getMessage());
                     }
-                    System.exit(0);
+                    if (ownsServices) {
+                        serviceFactory.shutdown();
+                        System.exit(0);
+                    }
+                    running = false; // end this session; the server keeps running
                     break;
                  default:
                      UIHelper.printErrorMessage("Invalid choice. Please try again.");
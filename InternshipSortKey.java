@@ -0,0 +1,86 @@
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Orders in which internship listings can be sorted. Ties are broken by
+ * internship ID, so every order is total and can be paged by cursor.
+ */
+public enum InternshipSortKey {
+    TITLE("title", Comparator.comparing(InternshipOpportunity::getTitle)),
+    COMPANY("company", Comparator.comparing(opp -> opp.getCreatedBy().getCompanyName())),
+    LEVEL("level", Comparator.comparing(InternshipOpportunity::getLevel)),
+    CLOSING("closing", Comparator.comparingLong(InternshipOpportunity::getClosingTime));
+
+    private final String setting;
+    private final Comparator<InternshipOpportunity> comparator;
+
+    InternshipSortKey(String setting, Comparator<InternshipOpportunity> comparator) {
+        this.setting = setting;
+        this.comparator = comparator.thenComparing(InternshipOpportunity::getOpportunityID);
+    }
+
+    /**
+     * Gets the comparator for this order.
+     *
+     * @return the comparator
+     */
+    public Comparator<InternshipOpportunity> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Gets the value this order sorts an internship on, as text whose natural
+     * order matches the comparator before its tie-break by ID.
+     *
+     * @param opp the internship
+     * @return the sort value
+     */
+    public String sortValueOf(InternshipOpportunity opp) {
+        switch (this) {
+            case COMPANY: return opp.getCreatedBy().getCompanyName();
+            case LEVEL: return opp.getLevel();
+            case CLOSING: return Page.Order.numberValue(opp.getClosingTime());
+            default: return opp.getTitle();
+        }
+    }
+
+    /**
+     * Gets this order as a cursor paging order.
+     *
+     * @return the paging order
+     */
+    public Page.Order<InternshipOpportunity> getPageOrder() {
+        return new Page.Order<>(setting, this::sortValueOf, InternshipOpportunity::getOpportunityID);
+    }
+
+    /**
+     * Gets the name of the internship field this order depends on, as
+     * reported in change events.
+     *
+     * @return the property name, or null if the field never changes
+     */
+    public String getProperty() {
+        switch (this) {
+            case TITLE: return "title";
+            case LEVEL: return "level";
+            case CLOSING: return "closingTime";
+            default: return null; // the creator's company is fixed
+        }
+    }
+
+    /**
+     * Finds the sort key for a filter setting, defaulting to title.
+     *
+     * @param setting the sort setting, e.g. "closing"
+     * @return the sort key
+     */
+    public static InternshipSortKey fromSetting(String setting) {
+        String normalized = setting == null ? "" : setting.toLowerCase(Locale.ROOT);
+        for (InternshipSortKey key : values()) {
+            if (key.setting.equals(normalized)) {
+                return key;
+            }
+        }
+        return TITLE;
+    }
+}
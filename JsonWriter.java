@@ -0,0 +1,258 @@
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Writes JSON to a stream as it is produced. Nothing is kept but the nesting
+ * of the open objects and arrays, so a list of any length is encoded one
+ * element at a time without building the document in memory.
+ */
+public final class JsonWriter implements Closeable, Flushable {
+    private final Writer out;
+    private boolean[] hasElements = new boolean[8]; // per open scope: true once a member or element was written
+    private int depth = 0;
+    private boolean afterName = false;
+
+    /**
+     * Constructs a JsonWriter.
+     *
+     * @param out the stream to write to; callers should buffer it
+     */
+    public JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Opens an object.
+     *
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter beginObject() throws IOException {
+        beforeValue();
+        out.write('{');
+        push();
+        return this;
+    }
+
+    /**
+     * Closes the innermost object.
+     *
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter endObject() throws IOException {
+        depth--;
+        out.write('}');
+        return this;
+    }
+
+    /**
+     * Opens an array.
+     *
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter beginArray() throws IOException {
+        beforeValue();
+        out.write('[');
+        push();
+        return this;
+    }
+
+    /**
+     * Closes the innermost array.
+     *
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter endArray() throws IOException {
+        depth--;
+        out.write(']');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next object member.
+     *
+     * @param name the member name
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter name(String name) throws IOException {
+        separate();
+        writeString(name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a string value, or null.
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(String value) throws IOException {
+        beforeValue();
+        if (value == null) {
+            out.write("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a number value.
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    /**
+     * Writes a number value; NaN and infinities, which JSON cannot express, are written as null.
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(double value) throws IOException {
+        beforeValue();
+        out.write(Double.isFinite(value) ? Double.toString(value) : "null");
+        return this;
+    }
+
+    /**
+     * Writes a boolean value.
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes a string member.
+     *
+     * @param name the member name
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter field(String name, String value) throws IOException {
+        return name(name).value(value);
+    }
+
+    /**
+     * Writes a number member.
+     *
+     * @param name the member name
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter field(String name, long value) throws IOException {
+        return name(name).value(value);
+    }
+
+    /**
+     * Writes a number member.
+     *
+     * @param name the member name
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter field(String name, double value) throws IOException {
+        return name(name).value(value);
+    }
+
+    /**
+     * Writes a boolean member.
+     *
+     * @param name the member name
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public JsonWriter field(String name, boolean value) throws IOException {
+        return name(name).value(value);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void push() {
+        if (depth == hasElements.length) {
+            hasElements = Arrays.copyOf(hasElements, depth * 2);
+        }
+        hasElements[depth++] = false;
+    }
+
+    private void beforeValue() throws IOException {
+        if (afterName) {
+            afterName = false; // the value of a member already separated by name()
+        } else {
+            separate();
+        }
+    }
+
+    private void separate() throws IOException {
+        if (depth > 0) {
+            if (hasElements[depth - 1]) {
+                out.write(',');
+            }
+            hasElements[depth - 1] = true;
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        int start = 0; // start of the run of characters that need no escaping
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escape;
+            if (c == '"') {
+                escape = "\\\"";
+            } else if (c == '\\') {
+                escape = "\\\\";
+            } else if (c == '\n') {
+                escape = "\\n";
+            } else if (c == '\r') {
+                escape = "\\r";
+            } else if (c == '\t') {
+                escape = "\\t";
+            } else if (c < 0x20 || c == 0x2028 || c == 0x2029) { // line separators break JavaScript string literals
+                escape = String.format("\\u%04x", (int) c);
+            } else {
+                continue;
+            }
+            out.write(value, start, i - start);
+            out.write(escape);
+            start = i + 1;
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+}
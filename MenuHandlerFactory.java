@@ -23,7 +23,7 @@ public class MenuHandlerFactory {
         if (user.isStudent()) {
             return new StudentMenuHandler(user.asStudent(), internshipService, (IStudentApplicationService) applicationService, userService, scanner);
         } else if (user.isCompanyRepresentative()) {
-            return new CompanyRepMenuHandler(user.asCompanyRepresentative(), internshipService, applicationService, userService, scanner);
+            return new CompanyRepMenuHandler(user.asCompanyRepresentative(), internshipService, applicationService, (ICompanyRepApplicationService) applicationService, userService, scanner);
         } else if (user.isCareerCenterStaff()) {
             return new CareerStaffMenuHandler(user.asCareerCenterStaff(), userService, internshipService, applicationService, scanner);
         } else {
@@ -0,0 +1,272 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a listing. A page is addressed either by offset or by a cursor,
+ * which records where the last item on the previous page sorts in an
+ * {@link Order}. A cursor keeps its place when items are added or removed
+ * between requests, including the item it was taken from.
+ *
+ * @param <T> the item type
+ */
+public final class Page<T> {
+    private final List<T> items;
+    private final int offset;
+    private final int limit;
+    private final int total;
+    private final String nextCursor;
+
+    private Page(List<T> items, int offset, int limit, int total, String nextCursor) {
+        this.items = items;
+        this.offset = offset;
+        this.limit = limit;
+        this.total = total;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Cuts a page out of a list by offset. The list must not change while the
+     * page is in use; repository snapshots and filtered results never do.
+     *
+     * @param list the full listing
+     * @param offset the index of the first item, clamped to the listing
+     * @param limit the maximum number of items
+     * @param <T> the item type
+     * @return the page
+     */
+    public static <T> Page<T> of(List<T> list, int offset, int limit) {
+        return of(list, offset, limit, null);
+    }
+
+    /**
+     * Cuts a page out of a list by offset, recording the cursor of its last item.
+     *
+     * @param list the full listing
+     * @param offset the index of the first item, clamped to the listing
+     * @param limit the maximum number of items
+     * @param keyOf gives the cursor key of an item, or null for no cursor
+     * @param <T> the item type
+     * @return the page
+     */
+    public static <T> Page<T> of(List<T> list, int offset, int limit, Function<? super T, String> keyOf) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        int from = Math.max(0, Math.min(offset, list.size()));
+        int to = Math.min(list.size(), from + limit);
+        List<T> items = Collections.unmodifiableList(list.subList(from, to));
+        String nextCursor = keyOf != null && to < list.size() && !items.isEmpty() ? keyOf.apply(items.get(items.size() - 1)) : null;
+        return new Page<>(items, from, limit, list.size(), nextCursor);
+    }
+
+    /**
+     * Cuts the page that follows a cursor out of a list sorted in the
+     * cursor's order. The page starts at the first item that sorts after the
+     * cursor, found by binary search, whether or not the item the cursor was
+     * taken from is still listed.
+     *
+     * @param list the full listing, sorted by {@code order}
+     * @param order the order of the listing
+     * @param cursor a cursor of the same order, or null for the first page
+     * @param limit the maximum number of items
+     * @param <T> the item type
+     * @return the page
+     * @throws IllegalArgumentException if the cursor is malformed or belongs to another order
+     */
+    public static <T> Page<T> after(List<T> list, Order<? super T> order, String cursor, int limit) {
+        int offset = 0;
+        if (cursor != null) {
+            String[] position = order.decode(cursor);
+            int low = 0;
+            int high = list.size(); // first index that sorts after the cursor lies in [low, high]
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (order.compareToPosition(list.get(mid), position[0], position[1]) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            offset = low;
+        }
+        return of(list, offset, limit, order::cursorOf);
+    }
+
+    /**
+     * Gets the items on this page.
+     *
+     * @return the items, unmodifiable
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the index of the first item on this page within the listing.
+     *
+     * @return the offset
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the maximum number of items per page.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the number of items in the whole listing.
+     *
+     * @return the total
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the 1-based number of this page.
+     *
+     * @return the page number
+     */
+    public int getPageNumber() {
+        return offset / limit + 1;
+    }
+
+    /**
+     * Gets the number of pages in the listing, at least one.
+     *
+     * @return the page count
+     */
+    public int getPageCount() {
+        return Math.max(1, (total + limit - 1) / limit);
+    }
+
+    /**
+     * Checks if items follow this page.
+     *
+     * @return true if there is a next page
+     */
+    public boolean hasNext() {
+        return offset + items.size() < total;
+    }
+
+    /**
+     * Checks if items precede this page.
+     *
+     * @return true if there is a previous page
+     */
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+
+    /**
+     * Gets the offset of the next page.
+     *
+     * @return the next offset
+     */
+    public int getNextOffset() {
+        return offset + items.size();
+    }
+
+    /**
+     * Gets the offset of the previous page.
+     *
+     * @return the previous offset, never negative
+     */
+    public int getPreviousOffset() {
+        return Math.max(0, offset - limit);
+    }
+
+    /**
+     * Gets the cursor that addresses the next page.
+     *
+     * @return the key of the last item on this page, or null if there is no
+     *         next page or the page was cut without cursor keys
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * A total order of a listing for cursor paging: items are sorted by a
+     * text sort value and then by ID, and a cursor records both for the last
+     * item seen, so the page after it can be found by binary search.
+     *
+     * @param <T> the item type
+     */
+    public static final class Order<T> implements Comparator<T> {
+        private final String name;
+        private final Function<? super T, String> sortValueOf;
+        private final Function<? super T, String> idOf;
+
+        /**
+         * Constructs an Order.
+         *
+         * @param name the name of the order, recorded in its cursors
+         * @param sortValueOf gives the value an item sorts on; its natural order must be the listing's order
+         * @param idOf gives the unique ID of an item, which breaks ties
+         */
+        public Order(String name, Function<? super T, String> sortValueOf, Function<? super T, String> idOf) {
+            this.name = name;
+            this.sortValueOf = sortValueOf;
+            this.idOf = idOf;
+        }
+
+        /**
+         * Gives a text sort value for a number whose natural order is the numeric order.
+         *
+         * @param value the number
+         * @return the sort value
+         */
+        public static String numberValue(long value) {
+            return String.format("%016x", value ^ Long.MIN_VALUE); // flipping the sign bit makes unsigned order signed order
+        }
+
+        @Override
+        public int compare(T a, T b) {
+            return compareToPosition(a, sortValueOf.apply(b), idOf.apply(b));
+        }
+
+        /**
+         * Gets the cursor that addresses the items after an item.
+         *
+         * @param item the last item seen
+         * @return the cursor
+         */
+        public String cursorOf(T item) {
+            String text = name + "\n" + sortValueOf.apply(item) + "\n" + idOf.apply(item);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private int compareToPosition(T item, String sortValue, String id) {
+            int byValue = sortValueOf.apply(item).compareTo(sortValue);
+            return byValue != 0 ? byValue : idOf.apply(item).compareTo(id);
+        }
+
+        /**
+         * Reads the sort value and ID out of a cursor of this order.
+         *
+         * @param cursor the cursor
+         * @return the sort value and the ID
+         * @throws IllegalArgumentException if the cursor is malformed or belongs to another order
+         */
+        private String[] decode(String cursor) {
+            String text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int valueStart = text.indexOf('\n') + 1;
+            int idStart = text.lastIndexOf('\n') + 1; // sort values may contain line breaks, names and IDs do not
+            if (valueStart == 0 || idStart <= valueStart || !text.substring(0, valueStart - 1).equals(name)) {
+                throw new IllegalArgumentException("Cursor does not belong to the " + name + " order.");
+            }
+            return new String[] {text.substring(valueStart, idStart - 1), text.substring(idStart)};
+        }
+    }
+}
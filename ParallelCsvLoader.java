@@ -0,0 +1,179 @@
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Reads and parses CSV data files on background workers.
+ * Each file is read on its own task; files larger than one chunk are split
+ * into record-aligned chunks that are parsed concurrently and reassembled in
+ * file order.
+ */
+public class ParallelCsvLoader {
+    private static final int CHUNK_LINES = 8192;
+    private final Executor executor;
+
+    /**
+     * Constructs a ParallelCsvLoader.
+     *
+     * @param executor the executor that runs read and parse tasks
+     */
+    public ParallelCsvLoader(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Asynchronously reads a CSV file and parses each line.
+     * Lines for which the parser returns null are dropped.
+     *
+     * @param path the file to load
+     * @param hasHeader true to skip the first line
+     * @param parser the per-line parser
+     * @param <T> the parsed row type
+     * @return a future completing with the parsed rows and load time
+     */
+    public <T> CompletableFuture<LoadedFile<T>> load(String path, boolean hasHeader, Function<String, T> parser) {
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> readLines(path, hasHeader), executor)
+            .thenCompose(lines -> parseChunks(lines, parser))
+            .thenApply(rows -> new LoadedFile<>(path, rows, System.nanoTime() - start));
+    }
+
+    private static List<String> readLines(String path, boolean hasHeader) {
+        Path file = Paths.get(path);
+        if (!Files.exists(file)) {
+            return Collections.emptyList(); // No file to load
+        }
+        try {
+            List<String> lines = joinQuotedLineBreaks(Files.readAllLines(file, Charset.defaultCharset()));
+            if (hasHeader && !lines.isEmpty()) {
+                return lines.subList(1, lines.size());
+            }
+            return lines;
+        } catch (IOException e) {
+            System.err.println("Error loading " + path + ": " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Rejoins records whose quoted fields span several lines, so that every
+     * entry handed to a parser is one complete CSV record. A line with an odd
+     * number of quotes leaves a quoted field open.
+     *
+     * @param lines the physical lines
+     * @return the records
+     */
+    private static List<String> joinQuotedLineBreaks(List<String> lines) {
+        List<String> records = new ArrayList<>(lines.size());
+        StringBuilder open = null;
+        for (String line : lines) {
+            boolean oddQuotes = countQuotes(line) % 2 == 1;
+            if (open == null) {
+                if (oddQuotes) {
+                    open = new StringBuilder(line);
+                } else {
+                    records.add(line);
+                }
+            } else {
+                open.append('\n').append(line);
+                if (oddQuotes) {
+                    records.add(open.toString());
+                    open = null;
+                }
+            }
+        }
+        if (open != null) {
+            records.add(open.toString()); // unterminated quote: parse what is there
+        }
+        return records;
+    }
+
+    private static int countQuotes(String line) {
+        int quotes = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes;
+    }
+
+    private <T> CompletableFuture<List<T>> parseChunks(List<String> lines, Function<String, T> parser) {
+        if (lines.size() <= CHUNK_LINES) {
+            return CompletableFuture.completedFuture(parseChunk(lines, parser));
+        }
+        List<CompletableFuture<List<T>>> chunks = new ArrayList<>();
+        for (int from = 0; from < lines.size(); from += CHUNK_LINES) {
+            List<String> chunk = lines.subList(from, Math.min(from + CHUNK_LINES, lines.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> parseChunk(chunk, parser), executor));
+        }
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> {
+                List<T> rows = new ArrayList<>(lines.size());
+                for (CompletableFuture<List<T>> chunk : chunks) {
+                    rows.addAll(chunk.join());
+                }
+                return rows;
+            });
+    }
+
+    private static <T> List<T> parseChunk(List<String> lines, Function<String, T> parser) {
+        List<T> rows = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            T row = parser.apply(line);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * The parsed rows of one file together with how long it took to load.
+     *
+     * @param <T> the parsed row type
+     */
+    public static final class LoadedFile<T> {
+        private final String path;
+        private final List<T> rows;
+        private final long elapsedNanos;
+
+        LoadedFile(String path, List<T> rows, long elapsedNanos) {
+            this.path = path;
+            this.rows = rows;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * @return the file path
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return the parsed rows in file order
+         */
+        public List<T> getRows() {
+            return rows;
+        }
+
+        /**
+         * @return the time spent reading and parsing the file
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+    }
+}
@@ -1,3 +1,4 @@
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -7,37 +8,60 @@ import java.util.Map;
 public class Report {
     private final List<InternshipOpportunity> opportunities;
     private final Map<String, String> filters;
+    private final Map<InternshipOpportunity, StatusHistogram> histograms; // keyed by identity
+    private final StatusHistogram applicationTotals;
+    private final Map<String, Integer> internshipTotals;
 
     /**
-     * Constructs a Report.
+     * Constructs a Report without application statistics.
      *
      * @param opportunities the list of opportunities
      * @param filters the filters applied
      */
     public Report(List<InternshipOpportunity> opportunities, Map<String, String> filters) {
+        this(opportunities, filters, new IdentityHashMap<>(), null, null);
+    }
+
+    /**
+     * Constructs a Report with the statistics gathered while it was generated.
+     *
+     * @param opportunities the list of opportunities
+     * @param filters the filters applied
+     * @param histograms the application histogram of each opportunity in the report
+     * @param applicationTotals the histogram of all applications in the system
+     * @param internshipTotals the number of internships in each status across the system
+     */
+    public Report(List<InternshipOpportunity> opportunities, Map<String, String> filters,
+                  Map<InternshipOpportunity, StatusHistogram> histograms,
+                  StatusHistogram applicationTotals, Map<String, Integer> internshipTotals) {
         this.opportunities = opportunities;
         this.filters = filters;
+        this.histograms = histograms;
+        this.applicationTotals = applicationTotals;
+        this.internshipTotals = internshipTotals;
     }
 
     /**
      * Displays the report to the console.
      */
     public void displayReport() {
-        System.out.println("=== INTERNSHIP REPORT ===");
-        System.out.println("Filters Applied: " + filters);
-        System.out.println("Total Opportunities Found: " + opportunities.size());
-        System.out.println();
-
-        for (InternshipOpportunity opp : opportunities) {
-            System.out.println("Opportunity ID: " + opp.getOpportunityID());
-            System.out.println("Title: " + opp.getTitle());
-            System.out.println("Company: " + opp.getCreatedBy().getCompanyName());
-            System.out.println("Level: " + opp.getLevel());
-            System.out.println("Preferred Major: " + opp.getPreferredMajor());
-            System.out.println("Status: " + opp.getStatus());
-            System.out.println("Max Slots: " + opp.getMaxSlots());
-            System.out.println("Visible: " + opp.isVisibility());
-            System.out.println("-------------------");
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line("=== INTERNSHIP REPORT ===");
+            screen.line("Filters Applied: " + filters);
+            screen.line("Total Opportunities Found: " + opportunities.size());
+            screen.line();
+
+            for (InternshipOpportunity opp : opportunities) {
+                screen.line("Opportunity ID: " + opp.getOpportunityID());
+                screen.line("Title: " + opp.getTitle());
+                screen.line("Company: " + opp.getCreatedBy().getCompanyName());
+                screen.line("Level: " + opp.getLevel());
+                screen.line("Preferred Major: " + opp.getPreferredMajor());
+                screen.line("Status: " + opp.getStatus());
+                screen.line("Max Slots: " + opp.getMaxSlots());
+                screen.line("Visible: " + opp.isVisibility());
+                screen.line("-------------------");
+            }
         }
     }
 
@@ -58,4 +82,32 @@ public class Report {
     public Map<String, String> getFilters() {
         return filters;
     }
+
+    /**
+     * Gets the application histogram of an opportunity in the report.
+     *
+     * @param opportunity the opportunity
+     * @return the histogram, or null if the report has no statistics for it
+     */
+    public StatusHistogram getHistogram(InternshipOpportunity opportunity) {
+        return histograms.get(opportunity);
+    }
+
+    /**
+     * Gets the histogram of all applications in the system at the time the report was generated.
+     *
+     * @return the histogram, or null if the report has no statistics
+     */
+    public StatusHistogram getApplicationTotals() {
+        return applicationTotals;
+    }
+
+    /**
+     * Gets the number of internships in each status at the time the report was generated.
+     *
+     * @return the counts by status, or null if the report has no statistics
+     */
+    public Map<String, Integer> getInternshipTotals() {
+        return internshipTotals;
+    }
 }
\ No newline at end of file
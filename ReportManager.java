@@ -1,12 +1,23 @@
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Scanner;
 
 /**
  * Singleton manager for generating and displaying internship reports.
  */
 public class ReportManager {
+    private static final String[] INTERNSHIP_STATUSES = {
+        InternshipOpportunity.STATUS_PENDING,
+        InternshipOpportunity.STATUS_APPROVED,
+        InternshipOpportunity.STATUS_REJECTED,
+        InternshipOpportunity.STATUS_FILLED
+    };
+    private static final int TOP_APPLIED_COUNT = 5;
     private static ReportManager instance;
     private IInternshipRepository internshipRepository;
     private IApplicationRepository applicationRepository;
@@ -37,7 +48,9 @@ public class ReportManager {
     }
 
     /**
-     * Generates a report based on filters.
+     * Generates a report based on filters. The report carries every statistic
+     * the detailed view needs, gathered in one pass over the internships and
+     * one grouped pass over the applications.
      *
      * @param filters the filters to apply
      * @return the generated report
@@ -49,110 +62,151 @@ public class ReportManager {
         }
         
         List<InternshipOpportunity> filteredOpportunities = new ArrayList<>();
+        Map<InternshipOpportunity, StatusHistogram> histograms = new IdentityHashMap<>();
+        Map<String, Integer> internshipTotals = new LinkedHashMap<>();
+        internshipTotals.put("Total", 0);
+        for (String status : INTERNSHIP_STATUSES) {
+            internshipTotals.put(status, 0);
+        }
         
         for (InternshipOpportunity opportunity : internshipRepository.getAllInternships()) {
-            boolean matches = true;
-            
-            if (filters.containsKey("status") && 
-                !opportunity.getStatus().equalsIgnoreCase(filters.get("status"))) {
-                matches = false;
-            }
-            
-            if (filters.containsKey("level") && 
-                !opportunity.getLevel().equalsIgnoreCase(filters.get("level"))) {
-                matches = false;
-            }
-            
-            if (filters.containsKey("preferredMajor") && 
-                !opportunity.getPreferredMajor().equalsIgnoreCase(filters.get("preferredMajor"))) {
-                matches = false;
-            }
-            
-            if (filters.containsKey("company") && 
-                !opportunity.getCreatedBy().getCompanyName().equalsIgnoreCase(filters.get("company"))) {
-                matches = false;
-            }
-            
-            if (matches) {
+            countInternship(internshipTotals, opportunity);
+            if (matches(opportunity, filters)) {
                 filteredOpportunities.add(opportunity);
+                histograms.put(opportunity, new StatusHistogram());
             }
         }
         
-        return new Report(filteredOpportunities, filters);
+        StatusHistogram applicationTotals = new StatusHistogram();
+        if (applicationRepository != null) {
+            applicationRepository.forEachApplication(app -> {
+                applicationTotals.add(app.getStatusEnum());
+                StatusHistogram histogram = histograms.get(app.getOpportunity());
+                if (histogram != null) {
+                    histogram.add(app.getStatusEnum());
+                }
+            });
+        }
+        
+        return new Report(filteredOpportunities, filters, histograms, applicationTotals, internshipTotals);
+    }
+
+    /**
+     * Checks an internship against the report filters.
+     *
+     * @param opportunity the internship
+     * @param filters the filters to apply
+     * @return true if every filter matches
+     */
+    private static boolean matches(InternshipOpportunity opportunity, Map<String, String> filters) {
+        if (filters.containsKey("status") && 
+            !opportunity.getStatus().equalsIgnoreCase(filters.get("status"))) {
+            return false;
+        }
+        
+        if (filters.containsKey("level") && 
+            !opportunity.getLevel().equalsIgnoreCase(filters.get("level"))) {
+            return false;
+        }
+        
+        if (filters.containsKey("preferredMajor") && 
+            !opportunity.getPreferredMajor().equalsIgnoreCase(filters.get("preferredMajor"))) {
+            return false;
+        }
+        
+        return !filters.containsKey("company") ||
+            opportunity.getCreatedBy().getCompanyName().equalsIgnoreCase(filters.get("company"));
     }
 
     /**
-     * Displays a detailed report.
+     * Counts an internship in the totals for its status.
+     *
+     * @param totals the counts by status, including "Total"
+     * @param opportunity the internship
+     */
+    private static void countInternship(Map<String, Integer> totals, InternshipOpportunity opportunity) {
+        totals.merge("Total", 1, Integer::sum);
+        totals.computeIfPresent(opportunity.getStatus(), (status, count) -> count + 1);
+    }
+
+    /**
+     * Displays a detailed report, printing every opportunity.
      *
      * @param report the report to display
      */
     public void displayDetailedReport(Report report) {
-        System.out.println("\n=== DETAILED INTERNSHIP REPORT ===");
-        System.out.println("Filters Applied: " + report.getFilters());
-        System.out.println("Total Opportunities Found: " + report.getOpportunities().size());
-        System.out.println();
-
-        if (report.getOpportunities().isEmpty()) {
-            System.out.println("No internships match the specified criteria.");
-            return;
-        }
+        displayDetailedReport(report, null);
+    }
 
-        for (InternshipOpportunity opp : report.getOpportunities()) {
-            System.out.println("┌─────────────────────────────────────────────────────────────┐");
-            System.out.println("│ " + opp.getTitle());
-            System.out.println("├─────────────────────────────────────────────────────────────┤");
-            System.out.println("│ ID: " + opp.getOpportunityID());
-            System.out.println("│ Company: " + opp.getCreatedBy().getCompanyName());
-            System.out.println("│ Level: " + opp.getLevel());
-            System.out.println("│ Major: " + opp.getPreferredMajor());
-            System.out.println("│ Min GPA: " + opp.getMinGPA());
-            System.out.println("│ Status: " + opp.getStatus());
-            System.out.println("│ Slots: " + opp.getMaxSlots());
-            System.out.println("│ Visible: " + (opp.isVisibility() ? "Yes" : "No"));
-            System.out.println("│ Opening: " + opp.getOpeningDate());
-            System.out.println("│ Closing: " + opp.getClosingDate());
-            System.out.println("└─────────────────────────────────────────────────────────────┘");
-            System.out.println();
-            
-            // Show application statistics for this internship
-            if (applicationRepository != null) {
-                int totalApps = 0, pendingApps = 0, successfulApps = 0, confirmedApps = 0, unsuccessfulApps = 0, withdrawnApps = 0, withdrawalRequestedApps = 0;
-                for (Application app : applicationRepository.getAllApplications()) {
-                    if (app.getOpportunity().getOpportunityID().equals(opp.getOpportunityID())) {
-                        totalApps++;
-                        switch (app.getStatusEnum()) {
-                            case PENDING:
-                                pendingApps++;
-                                break;
-                            case SUCCESSFUL:
-                                successfulApps++;
-                                break;
-                            case CONFIRMED:
-                                confirmedApps++;
-                                break;
-                            case UNSUCCESSFUL:
-                                unsuccessfulApps++;
-                                break;
-                            case WITHDRAWN:
-                                withdrawnApps++;
-                                break;
-                            case WITHDRAWAL_REQUESTED:
-                                withdrawalRequestedApps++;
-                                break;
-                            case WITHDRAWAL_REJECTED:
-                                // Withdrawal rejected, status reverted, count as unsuccessful for now
-                                unsuccessfulApps++;
-                                break;
-                        }
-                    }
+    /**
+     * Displays a detailed report. The opportunities most applied for are
+     * listed first, then every opportunity one page at a time.
+     *
+     * @param report the report to display
+     * @param scanner the scanner used to move between pages, or null to print every opportunity
+     */
+    public void displayDetailedReport(Report report, Scanner scanner) {
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line("\n=== DETAILED INTERNSHIP REPORT ===");
+            screen.line("Filters Applied: " + report.getFilters());
+            screen.line("Total Opportunities Found: " + report.getOpportunities().size());
+            screen.line();
+
+            if (report.getOpportunities().isEmpty()) {
+                screen.line("No internships match the specified criteria.");
+                return;
+            }
+
+            if (report.getOpportunities().size() > TOP_APPLIED_COUNT) {
+                Comparator<InternshipOpportunity> mostApplied = Comparator.comparingInt((InternshipOpportunity opp) -> applicationTotal(report, opp)).reversed();
+                screen.line("Most Applied For:");
+                for (InternshipOpportunity opp : TopK.select(report.getOpportunities(), mostApplied, TOP_APPLIED_COUNT)) {
+                    screen.line("  " + opp.getOpportunityID() + " - " + opp.getTitle() + ": " + applicationTotal(report, opp) + " application(s)");
                 }
-                System.out.println("  Applications: " + totalApps + " (Pending: " + pendingApps + 
-                                 ", Successful: " + successfulApps + ", Confirmed: " + confirmedApps +
-                                 ", Unsuccessful: " + unsuccessfulApps + ", Withdrawn: " + withdrawnApps +
-                                 ", Withdrawal Requested: " + withdrawalRequestedApps + ")");
+                screen.line();
+            }
+
+            if (scanner == null) {
+                report.getOpportunities().forEach(opp -> printOpportunity(screen, report, opp));
+                return;
             }
-            System.out.println();
         }
+        UIHelper.printPaged(report.getOpportunities(), (page, opp) -> printOpportunity(page, report, opp), scanner);
+    }
+
+    private static int applicationTotal(Report report, InternshipOpportunity opp) {
+        StatusHistogram histogram = report.getHistogram(opp);
+        return histogram == null ? 0 : histogram.getTotal();
+    }
+
+    private static void printOpportunity(ConsoleRenderer screen, Report report, InternshipOpportunity opp) {
+        screen.line("┌─────────────────────────────────────────────────────────────┐");
+        screen.line("│ " + opp.getTitle());
+        screen.line("├─────────────────────────────────────────────────────────────┤");
+        screen.line("│ ID: " + opp.getOpportunityID());
+        screen.line("│ Company: " + opp.getCreatedBy().getCompanyName());
+        screen.line("│ Level: " + opp.getLevel());
+        screen.line("│ Major: " + opp.getPreferredMajor());
+        screen.line("│ Min GPA: " + opp.getMinGPA());
+        screen.line("│ Status: " + opp.getStatus());
+        screen.line("│ Slots: " + opp.getMaxSlots());
+        screen.line("│ Visible: " + (opp.isVisibility() ? "Yes" : "No"));
+        screen.line("│ Opening: " + opp.getOpeningDate());
+        screen.line("│ Closing: " + opp.getClosingDate());
+        screen.line("└─────────────────────────────────────────────────────────────┘");
+        screen.line();
+        
+        // Show application statistics for this internship
+        StatusHistogram histogram = report.getHistogram(opp);
+        if (histogram != null) {
+            // Withdrawal rejected reverts the status, count as unsuccessful for now
+            int unsuccessfulApps = histogram.get(ApplicationStatus.UNSUCCESSFUL) + histogram.get(ApplicationStatus.WITHDRAWAL_REJECTED);
+            screen.line("  Applications: " + histogram.getTotal() + " (Pending: " + histogram.get(ApplicationStatus.PENDING) + 
+                             ", Successful: " + histogram.get(ApplicationStatus.SUCCESSFUL) + ", Confirmed: " + histogram.get(ApplicationStatus.CONFIRMED) +
+                             ", Unsuccessful: " + unsuccessfulApps + ", Withdrawn: " + histogram.get(ApplicationStatus.WITHDRAWN) +
+                             ", Withdrawal Requested: " + histogram.get(ApplicationStatus.WITHDRAWAL_REQUESTED) + ")");
+        }
+        screen.line();
     }
 
     /**
@@ -165,46 +219,40 @@ public class ReportManager {
             System.out.println("Error: ReportManager not initialized with repositories.");
             return new HashMap<>();
         }
-        
-        Map<String, Integer> stats = new HashMap<>();
-        int total = 0, pending = 0, successful = 0, unsuccessful = 0, confirmed = 0, withdrawn = 0;
-        
-        for (Application app : applicationRepository.getAllApplications()) {
-            total++;
-            switch (app.getStatusEnum()) {
-                case PENDING:
-                    pending++;
-                    break;
-                case SUCCESSFUL:
-                    successful++;
-                    break;
-                case UNSUCCESSFUL:
-                    unsuccessful++;
-                    break;
-                case CONFIRMED:
-                    confirmed++;
-                    break;
-                case WITHDRAWN:
-                    withdrawn++;
-                    break;
-                case WITHDRAWAL_REQUESTED:
-                    // Count as pending or separate, but for now pending
-                    pending++;
-                    break;
-                case WITHDRAWAL_REJECTED:
-                    // Reverted, count as unsuccessful
-                    unsuccessful++;
-                    break;
-            }
+        StatusHistogram histogram = new StatusHistogram();
+        applicationRepository.forEachApplication(app -> histogram.add(app.getStatusEnum()));
+        return toApplicationStatistics(histogram);
+    }
+
+    /**
+     * Gets the application statistics gathered when a report was generated,
+     * without another pass over the applications.
+     *
+     * @param report the report
+     * @return map of application status counts
+     */
+    public Map<String, Integer> getApplicationStatistics(Report report) {
+        if (report.getApplicationTotals() == null) {
+            return getApplicationStatistics();
         }
-        
-        stats.put("Total", total);
-        stats.put("Pending", pending);
-        stats.put("Successful", successful);
-        stats.put("Unsuccessful", unsuccessful);
-        stats.put("Confirmed", confirmed);
-        stats.put("Withdrawn", withdrawn);
-        
+        return toApplicationStatistics(report.getApplicationTotals());
+    }
+
+    /**
+     * Folds a status histogram into the categories shown in the system statistics.
+     *
+     * @param histogram the histogram of all applications
+     * @return map of application status counts
+     */
+    private static Map<String, Integer> toApplicationStatistics(StatusHistogram histogram) {
+        Map<String, Integer> stats = new HashMap<>();
+        stats.put("Total", histogram.getTotal());
+        // Withdrawal requests count as pending; rejected withdrawals were reverted, count as unsuccessful
+        stats.put("Pending", histogram.get(ApplicationStatus.PENDING) + histogram.get(ApplicationStatus.WITHDRAWAL_REQUESTED));
+        stats.put("Successful", histogram.get(ApplicationStatus.SUCCESSFUL));
+        stats.put("Unsuccessful", histogram.get(ApplicationStatus.UNSUCCESSFUL) + histogram.get(ApplicationStatus.WITHDRAWAL_REJECTED));
+        stats.put("Confirmed", histogram.get(ApplicationStatus.CONFIRMED));
+        stats.put("Withdrawn", histogram.get(ApplicationStatus.WITHDRAWN));
         return stats;
     }
 
@@ -220,32 +268,25 @@ public class ReportManager {
         }
         
         Map<String, Integer> stats = new HashMap<>();
-        int total = 0, pending = 0, approved = 0, rejected = 0, filled = 0;
-        
-        for (InternshipOpportunity opp : internshipRepository.getAllInternships()) {
-            total++;
-            switch (opp.getStatus()) {
-                case "Pending":
-                    pending++;
-                    break;
-                case "Approved":
-                    approved++;
-                    break;
-                case "Rejected":
-                    rejected++;
-                    break;
-                case "Filled":
-                    filled++;
-                    break;
-            }
+        stats.put("Total", 0);
+        for (String status : INTERNSHIP_STATUSES) {
+            stats.put(status, 0);
         }
-        
-        stats.put("Total", total);
-        stats.put("Pending", pending);
-        stats.put("Approved", approved);
-        stats.put("Rejected", rejected);
-        stats.put("Filled", filled);
-        
+        internshipRepository.forEachInternship(opp -> countInternship(stats, opp));
         return stats;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the internship statistics gathered when a report was generated,
+     * without another pass over the internships.
+     *
+     * @param report the report
+     * @return map of internship status counts
+     */
+    public Map<String, Integer> getInternshipStatistics(Report report) {
+        if (report.getInternshipTotals() == null) {
+            return getInternshipStatistics();
+        }
+        return new HashMap<>(report.getInternshipTotals());
+    }
+}
@@ -0,0 +1,33 @@
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Lock guarding a repository's secondary indexes. Writers take the write
+ * lock as with any {@link StampedLock}; readers go through
+ * {@link #read(Supplier)}, which runs under the read lock so lookups never
+ * block each other. Lookups by ID do not need it: the ID indexes are
+ * concurrent maps read without locking. The lock is not reentrant: a write
+ * section must not call back into code that takes it again.
+ */
+public final class RepositoryLock extends StampedLock {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Runs a read-only lookup against the guarded state under the read lock.
+     * Optimistic reads are not used: a lookup that traverses a hash map or set
+     * while a writer resizes it may loop instead of failing, so it would never
+     * get to validate its stamp. The lookup must copy anything it returns.
+     *
+     * @param lookup the lookup
+     * @param <T> the result type
+     * @return the result of the lookup
+     */
+    public <T> T read(Supplier<T> lookup) {
+        long stamp = readLock();
+        try {
+            return lookup.get();
+        } finally {
+            unlockRead(stamp);
+        }
+    }
+}
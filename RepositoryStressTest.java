@@ -0,0 +1,234 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency stress test for the CSV repositories. Many threads at once
+ * generate IDs, add company representatives, internships and applications,
+ * change application statuses and save all three repositories. The test then
+ * checks that no insert or status change was lost: the table sizes, the
+ * uniqueness of every generated ID, the lookups by ID, the status buckets
+ * and the saved files.
+ * <p>
+ * Run from the project directory with {@code java RepositoryStressTest [threads] [operationsPerThread]}
+ * (default 8 threads of 250 operations). The files in {@code data/} are
+ * restored when the test ends. Exits with status 1 if any check fails.
+ */
+public class RepositoryStressTest {
+    private static final String DATA_DIR = "data";
+
+    private final List<String> failures = new ArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 250;
+        Map<Path, byte[]> backup = backUpData();
+        RepositoryStressTest test = new RepositoryStressTest();
+        try {
+            test.run(threads, operations);
+        } catch (Exception e) {
+            test.fail("Unexpected " + e);
+            e.printStackTrace();
+        } finally {
+            restoreData(backup);
+        }
+        if (test.failures.isEmpty()) {
+            System.out.println("PASSED: " + threads + " threads x " + operations + " operations");
+            System.exit(0);
+        }
+        test.failures.forEach(failure -> System.out.println("FAILED: " + failure));
+        System.exit(1);
+    }
+
+    private void run(int threads, int operations) throws Exception {
+        ServiceFactory serviceFactory = new ServiceFactory();
+        serviceFactory.initialize();
+        IUserRepository userRepository = serviceFactory.getUserRepository();
+        IInternshipRepository internshipRepository = serviceFactory.getInternshipRepository();
+        IApplicationRepository applicationRepository = serviceFactory.getApplicationRepository();
+
+        List<Student> students = new ArrayList<>();
+        for (User user : userRepository.getAllUsers()) {
+            if (user.isStudent()) {
+                students.add(user.asStudent());
+            }
+        }
+        int usersBefore = userRepository.getAllUsers().size();
+        int internshipsBefore = internshipRepository.getAllInternships().size();
+        int applicationsBefore = applicationRepository.getAllApplications().size();
+        if (students.isEmpty()) {
+            fail("No students in " + DATA_DIR + " to apply with");
+            return;
+        }
+
+        Set<String> repIds = ConcurrentHashMap.newKeySet();
+        Set<String> internshipIds = ConcurrentHashMap.newKeySet();
+        Set<String> applicationIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicateIds = new AtomicInteger();
+        AtomicInteger unsuccessful = new AtomicInteger();
+        long now = System.currentTimeMillis();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            writers.add(executor.submit(() -> {
+                Random random = new Random(thread);
+                start.await();
+                for (int i = 0; i < operations; i++) {
+                    String repId = userRepository.generateCompanyRepId();
+                    CompanyRepresentative rep = new CompanyRepresentative(repId, "Stress Rep " + thread + "-" + i, "password",
+                        "Stress Co " + thread, "Engineering", "Manager", repId + "@stress.test", internshipRepository, applicationRepository);
+                    userRepository.addUser(rep);
+
+                    String internshipId = internshipRepository.generateInternshipId();
+                    InternshipOpportunity internship = new InternshipOpportunity(internshipId, "Stress " + thread + "-" + i, "Stress test",
+                        "Basic", "Computer Science", now - 86400000L, now + 30 * 86400000L, 3, 0.0, rep);
+                    internshipRepository.addInternship(internship);
+
+                    String applicationId = applicationRepository.generateApplicationId();
+                    Application application = new Application(applicationId, students.get(random.nextInt(students.size())), internship, ApplicationStatus.PENDING);
+                    applicationRepository.addApplication(application);
+                    if (random.nextBoolean()) {
+                        application.updateStatus(ApplicationStatus.UNSUCCESSFUL);
+                        unsuccessful.incrementAndGet();
+                    }
+
+                    if (!repIds.add(repId) | !internshipIds.add(internshipId) | !applicationIds.add(applicationId)) {
+                        duplicateIds.incrementAndGet();
+                    }
+                    if (i % 25 == 0) {
+                        userRepository.saveUsers();
+                        internshipRepository.saveInternships();
+                        applicationRepository.saveApplications();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        executor.shutdown();
+
+        int expected = threads * operations;
+        check(duplicateIds.get() == 0, duplicateIds.get() + " generated ID(s) were handed out twice");
+        check(repIds.size() == expected && internshipIds.size() == expected && applicationIds.size() == expected,
+            "Expected " + expected + " unique IDs of each kind, got " + repIds.size() + " rep, "
+            + internshipIds.size() + " internship and " + applicationIds.size() + " application IDs");
+        check(userRepository.getAllUsers().size() == usersBefore + expected,
+            "Expected " + (usersBefore + expected) + " users, found " + userRepository.getAllUsers().size());
+        check(internshipRepository.getAllInternships().size() == internshipsBefore + expected,
+            "Expected " + (internshipsBefore + expected) + " internships, found " + internshipRepository.getAllInternships().size());
+        check(applicationRepository.getAllApplications().size() == applicationsBefore + expected,
+            "Expected " + (applicationsBefore + expected) + " applications, found " + applicationRepository.getAllApplications().size());
+
+        int missing = 0;
+        for (String id : repIds) {
+            missing += userRepository.getUserById(id) == null ? 1 : 0;
+        }
+        for (String id : internshipIds) {
+            missing += internshipRepository.getInternshipById(id) == null ? 1 : 0;
+        }
+        for (String id : applicationIds) {
+            missing += applicationRepository.getApplicationById(id) == null ? 1 : 0;
+        }
+        check(missing == 0, missing + " added entities cannot be found by ID");
+
+        int bucketed = 0;
+        int misfiled = 0;
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            for (Application application : applicationRepository.getApplicationsByStatus(status)) {
+                bucketed++;
+                misfiled += application.getStatusEnum() == status ? 0 : 1;
+            }
+        }
+        check(misfiled == 0, misfiled + " applications are in the wrong status bucket");
+        check(bucketed == applicationRepository.getAllApplications().size(),
+            bucketed + " applications in status buckets, but " + applicationRepository.getAllApplications().size() + " in the table");
+        int unsuccessfulFound = 0;
+        for (Application application : applicationRepository.getApplicationsByStatus(ApplicationStatus.UNSUCCESSFUL)) {
+            unsuccessfulFound += applicationIds.contains(application.getApplicationID()) ? 1 : 0;
+        }
+        check(unsuccessfulFound == unsuccessful.get(),
+            "Expected " + unsuccessful.get() + " status changes to Unsuccessful, found " + unsuccessfulFound);
+
+        userRepository.saveUsers();
+        internshipRepository.saveInternships();
+        applicationRepository.saveApplications();
+        serviceFactory.shutdown(); // drains any write-behind flusher
+        if (applicationRepository instanceof CsvApplicationRepository) {
+            ((CsvApplicationRepository) applicationRepository).compact();
+        }
+        checkSavedRows(CsvInternshipRepository.INTERNSHIPS_FILE, internshipIds);
+        checkSavedRows(CsvApplicationRepository.APPLICATIONS_FILE, applicationIds);
+    }
+
+    /**
+     * Checks that every generated ID appears in the first column of a saved file.
+     *
+     * @param path the CSV file
+     * @param ids the IDs that must have been saved
+     */
+    private void checkSavedRows(String path, Set<String> ids) throws IOException {
+        Set<String> saved = new HashSet<>();
+        for (String line : Files.readAllLines(new File(path).toPath())) {
+            saved.add(line.split(",", 2)[0]);
+        }
+        int unsaved = 0;
+        for (String id : ids) {
+            unsaved += saved.contains(id) ? 0 : 1;
+        }
+        check(unsaved == 0, unsaved + " rows missing from " + path);
+    }
+
+    private void check(boolean condition, String failure) {
+        if (!condition) {
+            fail(failure);
+        }
+    }
+
+    private void fail(String failure) {
+        failures.add(failure);
+    }
+
+    private static Map<Path, byte[]> backUpData() throws IOException {
+        Map<Path, byte[]> backup = new HashMap<>();
+        File[] files = new File(DATA_DIR).listFiles(File::isFile);
+        if (files != null) {
+            for (File file : files) {
+                backup.put(file.toPath(), Files.readAllBytes(file.toPath()));
+            }
+        }
+        return backup;
+    }
+
+    private static void restoreData(Map<Path, byte[]> backup) throws IOException {
+        File[] files = new File(DATA_DIR).listFiles(File::isFile);
+        if (files != null) {
+            for (File file : files) {
+                if (!backup.containsKey(file.toPath())) {
+                    Files.delete(file.toPath()); // e.g. a journal the test created
+                }
+            }
+        }
+        for (Map.Entry<Path, byte[]> entry : backup.entrySet()) {
+            Files.write(entry.getKey(), entry.getValue());
+        }
+    }
+}
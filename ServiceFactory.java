@@ -1,3 +1,10 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Simple DI container for managing service and repository dependencies.
  * Provides factory methods to create and wire all components.
@@ -9,15 +16,69 @@ public class ServiceFactory {
     private IUserService userService;
     private IInternshipService internshipService;
     private IApplicationService applicationService;
+    private WriteBehindFlusher flusher;
+    private ChangeEventBus eventBus;
 
     /**
      * Initializes all repositories and services with proper dependency injection.
+     * The five data files are read and parsed in parallel; cross-references
+     * between users, internships and applications are wired in a final join phase.
      */
     public void initialize() {
-        // Initialize repositories in dependency order
-        this.userRepository = new CsvUserRepository(null, null);
-        this.internshipRepository = new CsvInternshipRepository(userRepository);
-        this.applicationRepository = new CsvApplicationRepository(userRepository, internshipRepository);
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        try {
+            ParallelCsvLoader loader = new ParallelCsvLoader(executor);
+            CompletableFuture<ParallelCsvLoader.LoadedFile<Student>> students =
+                loader.load(CsvUserRepository.STUDENTS_FILE, true, CsvUserRepository::parseStudent);
+            CompletableFuture<ParallelCsvLoader.LoadedFile<CareerCenterStaff>> staff =
+                loader.load(CsvUserRepository.STAFF_FILE, true, CsvUserRepository::parseStaff);
+            CompletableFuture<ParallelCsvLoader.LoadedFile<CompanyRepresentative>> reps =
+                loader.load(CsvUserRepository.COMPANY_REPS_FILE, true, CsvUserRepository::parseCompanyRepresentative);
+            CompletableFuture<ParallelCsvLoader.LoadedFile<CsvInternshipRepository.InternshipRow>> internships =
+                loader.load(CsvInternshipRepository.INTERNSHIPS_FILE, true, CsvInternshipRepository::parseRow);
+            CompletableFuture<ParallelCsvLoader.LoadedFile<CsvApplicationRepository.ApplicationRow>> applications =
+                loader.load(CsvApplicationRepository.APPLICATIONS_FILE, true, CsvApplicationRepository::parseRow);
+            CompletableFuture<ParallelCsvLoader.LoadedFile<CsvApplicationRepository.ApplicationRow>> journal =
+                loader.load(CsvApplicationRepository.JOURNAL_FILE, false, CsvApplicationRepository::parseRow);
+
+            // Join phase: wire repositories in dependency order once every file is parsed
+            List<User> users = new ArrayList<>();
+            users.addAll(students.join().getRows());
+            users.addAll(staff.join().getRows());
+            users.addAll(reps.join().getRows());
+            CsvUserRepository csvUserRepository = new CsvUserRepository(users);
+            csvUserRepository.setIncrementalSaveEnabled(true);
+            this.userRepository = csvUserRepository;
+            CsvInternshipRepository csvInternshipRepository = new CsvInternshipRepository(userRepository, internships.join().getRows());
+            csvInternshipRepository.setIncrementalSaveEnabled(true);
+            this.internshipRepository = csvInternshipRepository;
+            CsvApplicationRepository csvApplicationRepository = new CsvApplicationRepository(userRepository, internshipRepository,
+                applications.join().getRows(), journal.join().getRows());
+            csvApplicationRepository.setJournalEnabled(true);
+            this.applicationRepository = csvApplicationRepository;
+
+            // Route all saves through one flusher so they share a durability policy
+            this.flusher = createFlusher();
+            csvUserRepository.setFlusher(flusher);
+            csvInternshipRepository.setFlusher(flusher);
+            csvApplicationRepository.setFlusher(flusher);
+
+            // Publish every repository change on one bus so subscribers see a single ordered stream
+            this.eventBus = new ChangeEventBus();
+            csvUserRepository.setEventBus(eventBus);
+            csvInternshipRepository.setEventBus(eventBus);
+            csvApplicationRepository.setEventBus(eventBus);
+
+            printLoadTiming(students.join());
+            printLoadTiming(staff.join());
+            printLoadTiming(reps.join());
+            printLoadTiming(internships.join());
+            printLoadTiming(applications.join());
+            printLoadTiming(journal.join());
+        } finally {
+            executor.shutdown();
+        }
 
         // Update user repository with dependencies
         ((CsvUserRepository) this.userRepository).setInternshipRepository(internshipRepository);
@@ -31,16 +92,61 @@ public class ServiceFactory {
 
         // Set dependencies
         ((UserService) this.userService).setApplicationService((ICompanyRepApplicationService) this.applicationService);
+
+        // Build dashboard aggregates once; they are kept current from change events
+        StatisticsService.getInstance().initialize(internshipRepository, applicationRepository);
+
+        System.out.println("  Startup completed in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Creates the write-behind flusher from system properties:
+     * {@code ipms.durability} ({@code every-commit}, {@code interval} or {@code none}),
+     * {@code ipms.flushIntervalMs} and {@code ipms.flushBatch}. The default
+     * policy writes every save before it returns.
+     *
+     * @return the flusher
+     */
+    private static WriteBehindFlusher createFlusher() {
+        String durability = System.getProperty("ipms.durability", "every-commit");
+        WriteBehindFlusher.DurabilityPolicy policy;
+        try {
+            policy = WriteBehindFlusher.DurabilityPolicy.valueOf(durability.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error reading ipms.durability: unknown policy " + durability);
+            policy = WriteBehindFlusher.DurabilityPolicy.EVERY_COMMIT;
+        }
+        long intervalMillis = Long.getLong("ipms.flushIntervalMs", 500L);
+        int batchSize = Integer.getInteger("ipms.flushBatch", 50);
+        return new WriteBehindFlusher(policy, intervalMillis, batchSize);
+    }
+
+    /**
+     * Delivers any change events still queued for asynchronous subscribers,
+     * then writes any saves still pending in the write-behind flusher and stops it.
+     */
+    public void shutdown() {
+        if (eventBus != null) {
+            eventBus.shutdown();
+        }
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+    }
+
+    private static void printLoadTiming(ParallelCsvLoader.LoadedFile<?> file) {
+        UIHelper.printLoadTiming(file.getPath(), file.getRows().size(), file.getElapsedNanos());
     }
 
     // Getters for repositories
     public IUserRepository getUserRepository() { return userRepository; }
     public IInternshipRepository getInternshipRepository() { return internshipRepository; }
     public IApplicationRepository getApplicationRepository() { return applicationRepository; }
+    public ChangeEventBus getEventBus() { return eventBus; }
 
     // Getters for services
     public IUserService getUserService() { return userService; }
     public IInternshipService getInternshipService() { return internshipService; }
     public IApplicationService getApplicationService() { return applicationService; }
     public ICompanyRepApplicationService getCompanyRepApplicationService() { return (ICompanyRepApplicationService) applicationService; }
-}
\ No newline at end of file
+}
@@ -0,0 +1,223 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * Stands in for {@code System.out} while terminal sessions are being served.
+ * Each print goes to the stream bound to the calling thread, so menus that
+ * write to {@code System.out} reach their own session's socket; threads
+ * without a session keep writing to the original console. Unlike a plain
+ * {@link PrintStream}, this stream holds no lock of its own, so a slow
+ * client never stalls the output of other sessions.
+ */
+public final class SessionConsole extends PrintStream {
+    private static final ThreadLocal<PrintStream> TARGET = new ThreadLocal<>();
+    private final PrintStream console;
+
+    private SessionConsole(PrintStream console) {
+        super(console, true);
+        this.console = console;
+    }
+
+    /**
+     * Replaces {@code System.out} with a session console, unless one is already installed.
+     */
+    public static synchronized void install() {
+        if (!(System.out instanceof SessionConsole)) {
+            System.setOut(new SessionConsole(System.out));
+        }
+    }
+
+    /**
+     * Sends the current thread's output to a session.
+     *
+     * @param out the session's stream
+     */
+    public static void bind(PrintStream out) {
+        TARGET.set(out);
+    }
+
+    /**
+     * Sends the current thread's output back to the original console.
+     */
+    public static void unbind() {
+        TARGET.remove();
+    }
+
+    private PrintStream target() {
+        PrintStream out = TARGET.get();
+        return out != null ? out : console;
+    }
+
+    @Override
+    public void flush() {
+        target().flush();
+    }
+
+    @Override
+    public void close() {
+        // sessions close their own streams; the console stays open
+    }
+
+    @Override
+    public boolean checkError() {
+        return target().checkError();
+    }
+
+    @Override
+    public void write(int b) {
+        target().write(b);
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) {
+        target().write(buf, off, len);
+    }
+
+    @Override
+    public void write(byte[] buf) throws IOException {
+        target().write(buf);
+    }
+
+    @Override
+    public void writeBytes(byte[] buf) {
+        target().writeBytes(buf);
+    }
+
+    @Override
+    public void print(boolean b) {
+        target().print(b);
+    }
+
+    @Override
+    public void print(char c) {
+        target().print(c);
+    }
+
+    @Override
+    public void print(int i) {
+        target().print(i);
+    }
+
+    @Override
+    public void print(long l) {
+        target().print(l);
+    }
+
+    @Override
+    public void print(float f) {
+        target().print(f);
+    }
+
+    @Override
+    public void print(double d) {
+        target().print(d);
+    }
+
+    @Override
+    public void print(char[] s) {
+        target().print(s);
+    }
+
+    @Override
+    public void print(String s) {
+        target().print(s);
+    }
+
+    @Override
+    public void print(Object obj) {
+        target().print(obj);
+    }
+
+    @Override
+    public void println() {
+        target().println();
+    }
+
+    @Override
+    public void println(boolean x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(char x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(int x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(long x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(float x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(double x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(char[] x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(String x) {
+        target().println(x);
+    }
+
+    @Override
+    public void println(Object x) {
+        target().println(x);
+    }
+
+    @Override
+    public PrintStream printf(String format, Object... args) {
+        target().printf(format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream printf(Locale l, String format, Object... args) {
+        target().printf(l, format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream format(String format, Object... args) {
+        target().format(format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream format(Locale l, String format, Object... args) {
+        target().format(l, format, args);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq) {
+        target().append(csq);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(CharSequence csq, int start, int end) {
+        target().append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public PrintStream append(char c) {
+        target().append(c);
+        return this;
+    }
+}
@@ -0,0 +1,145 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, versioned view of a repository table.
+ * Repositories publish a new snapshot on every insert or removal and hand the
+ * current one to callers without copying. A snapshot never changes after it is
+ * published, so callers may keep and iterate it while the table moves on.
+ * Appending to the latest snapshot shares its backing array with the new one,
+ * so an insert is amortized O(1); removals copy the surviving elements.
+ *
+ * @param <T> the element type
+ */
+public final class Snapshot<T> extends AbstractList<T> implements RandomAccess {
+    private static final Snapshot<?> EMPTY = new Snapshot<>(new Buffer(0), 0, 0L);
+
+    private final Buffer buffer;
+    private final int size;
+    private final long version;
+
+    private Snapshot(Buffer buffer, int size, long version) {
+        this.buffer = buffer;
+        this.size = size;
+        this.version = version;
+    }
+
+    /**
+     * Gets the empty snapshot.
+     *
+     * @param <T> the element type
+     * @return a snapshot with no elements at version zero
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Snapshot<T> empty() {
+        return (Snapshot<T>) EMPTY;
+    }
+
+    /**
+     * Gets the version of this snapshot, which increases with every published change.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a snapshot with one more element at the end. Elements already
+     * visible through this snapshot are not copied unless the backing array
+     * is full or was extended by another snapshot.
+     *
+     * @param element the element to append
+     * @return the new snapshot
+     */
+    public Snapshot<T> append(T element) {
+        Buffer target = buffer;
+        synchronized (target) {
+            if (target.published == size && size < target.elements.length) {
+                target.elements[size] = element;
+                target.published = size + 1;
+                return new Snapshot<>(target, size + 1, version + 1);
+            }
+        }
+        Buffer copy = new Buffer(Math.max(8, size + (size >> 1) + 1));
+        System.arraycopy(buffer.elements, 0, copy.elements, 0, size);
+        copy.elements[size] = element;
+        copy.published = size + 1;
+        return new Snapshot<>(copy, size + 1, version + 1);
+    }
+
+    /**
+     * Returns a snapshot without the elements matching a predicate.
+     *
+     * @param filter the elements to drop
+     * @return the new snapshot, or this snapshot if nothing matched
+     */
+    public Snapshot<T> without(Predicate<? super T> filter) {
+        Buffer copy = new Buffer(Math.max(8, size));
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T element = get(i);
+            if (!filter.test(element)) {
+                copy.elements[kept++] = element;
+            }
+        }
+        if (kept == size) {
+            return this;
+        }
+        copy.published = kept;
+        return new Snapshot<>(copy, kept, version + 1);
+    }
+
+    /**
+     * Returns an empty snapshot that continues this snapshot's version sequence.
+     *
+     * @return the cleared snapshot
+     */
+    public Snapshot<T> cleared() {
+        return new Snapshot<>(new Buffer(0), 0, version + 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) buffer.elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        Object[] elements = buffer.elements;
+        for (int i = 0; i < size; i++) {
+            action.accept((T) elements[i]);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(buffer.elements, size);
+    }
+
+    /**
+     * Backing array shared by a chain of appended snapshots. Slots below
+     * {@code published} are frozen; only the snapshot whose size equals
+     * {@code published} may append.
+     */
+    private static final class Buffer {
+        private final Object[] elements;
+        private int published;
+
+        private Buffer(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+}
@@ -0,0 +1,170 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Internships kept in one {@link InternshipSortKey} order as they are added,
+ * edited and removed. Each entry stores its sort key when it is filed, so
+ * inserts and removals are a binary search plus an array shift and reads
+ * never sort. Ties are ordered by ID, as in the sort key's comparator.
+ */
+public class SortedInternshipView {
+    private final InternshipSortKey sortKey;
+    private final List<Entry> entries = new ArrayList<>(); // sorted by key, then ID, then catalogue position
+    private final Map<InternshipOpportunity, Entry> filed = new IdentityHashMap<>();
+    private long nextPosition = 0;
+    private List<InternshipOpportunity> published; // read-only copy of the current order, rebuilt after a change
+
+    /**
+     * Constructs an empty view.
+     *
+     * @param sortKey the order to keep
+     */
+    public SortedInternshipView(InternshipSortKey sortKey) {
+        this.sortKey = sortKey;
+    }
+
+    /**
+     * Gets the order this view keeps.
+     *
+     * @return the sort key
+     */
+    public InternshipSortKey getSortKey() {
+        return sortKey;
+    }
+
+    /**
+     * Files an internship at the end of the catalogue order.
+     *
+     * @param internship the internship
+     */
+    public synchronized void add(InternshipOpportunity internship) {
+        if (filed.containsKey(internship)) {
+            return;
+        }
+        insert(new Entry(internship, sortKey, nextPosition++));
+    }
+
+    /**
+     * Moves an internship after a change to a field this view sorts on.
+     *
+     * @param internship the internship
+     */
+    public synchronized void update(InternshipOpportunity internship) {
+        Entry entry = filed.get(internship);
+        if (entry == null) {
+            return;
+        }
+        Entry refreshed = new Entry(internship, sortKey, entry.position);
+        if (refreshed.compareTo(entry) == 0) {
+            return;
+        }
+        delete(entry);
+        insert(refreshed);
+    }
+
+    /**
+     * Removes an internship from the view.
+     *
+     * @param internship the internship
+     */
+    public synchronized void remove(InternshipOpportunity internship) {
+        Entry entry = filed.get(internship);
+        if (entry != null) {
+            delete(entry);
+        }
+    }
+
+    /**
+     * Removes every internship and restarts the catalogue order.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        filed.clear();
+        nextPosition = 0;
+        published = null;
+    }
+
+    /**
+     * Gets the internships in this view's order.
+     *
+     * @return an unmodifiable list that does not change after it is returned
+     */
+    public synchronized List<InternshipOpportunity> getInternships() {
+        if (published == null) {
+            List<InternshipOpportunity> copy = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                copy.add(entry.internship);
+            }
+            published = Collections.unmodifiableList(copy);
+        }
+        return published;
+    }
+
+    private void insert(Entry entry) {
+        int index = Collections.binarySearch(entries, entry);
+        entries.add(-index - 1, entry); // positions are unique, so the entry is never found
+        filed.put(entry.internship, entry);
+        published = null;
+    }
+
+    private void delete(Entry entry) {
+        int index = Collections.binarySearch(entries, entry);
+        if (index >= 0) {
+            entries.remove(index);
+        }
+        filed.remove(entry.internship);
+        published = null;
+    }
+
+    /**
+     * An internship with the sort key it was filed under.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        private final InternshipOpportunity internship;
+        private final String text; // collation key for string orders
+        private final long number; // collation key for the closing date order
+        private final String id;
+        private final long position; // only tells apart internships that share an ID
+
+        private Entry(InternshipOpportunity internship, InternshipSortKey sortKey, long position) {
+            this.internship = internship;
+            this.id = internship.getOpportunityID();
+            this.position = position;
+            switch (sortKey) {
+                case COMPANY:
+                    this.text = internship.getCreatedBy().getCompanyName();
+                    this.number = 0;
+                    break;
+                case LEVEL:
+                    this.text = internship.getLevel();
+                    this.number = 0;
+                    break;
+                case CLOSING:
+                    this.text = "";
+                    this.number = internship.getClosingTime();
+                    break;
+                default:
+                    this.text = internship.getTitle();
+                    this.number = 0;
+                    break;
+            }
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byText = text.compareTo(other.text);
+            if (byText != 0) {
+                return byText;
+            }
+            int byNumber = Long.compare(number, other.number);
+            if (byNumber != 0) {
+                return byNumber;
+            }
+            int byId = id.compareTo(other.id);
+            return byId != 0 ? byId : Long.compare(position, other.position);
+        }
+    }
+}
@@ -1,9 +1,6 @@
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Class for calculating and displaying various statistics related to internships and applications.
@@ -22,6 +19,7 @@ public class Statistics {
     private final IStudentApplicationService applicationService;
     private final IInternshipRepository internshipRepository;
     private final IUserRepository userRepository;
+    private final StatisticsService statisticsService;
 
     /**
      * Constructs a Statistics instance.
@@ -44,6 +42,8 @@ public class Statistics {
         this.applicationService = applicationService;
         this.internshipRepository = internshipRepository;
         this.userRepository = userRepository;
+        this.statisticsService = StatisticsService.getInstance();
+        statisticsService.initialize(internshipRepository, applicationRepository);
     }
 
     /**
@@ -120,80 +120,43 @@ public class Statistics {
     }
 
     /**
-     * Calculates internship statistics for a company representative.
+     * Reads internship statistics for a company representative from the
+     * incrementally maintained aggregates.
      */
-    private InternshipStats calculateInternshipStats(CompanyRepresentative rep) {
+    private InternshipStats calculateInternshipStats(StatisticsService.RepStatistics repStats) {
         InternshipStats stats = new InternshipStats();
-        for (InternshipOpportunity opp : internshipRepository.getAllInternships()) {
-            if (opp.getCreatedBy().getUserID().equals(rep.getUserID())) {
-                stats.totalInternships++;
-                String level = opp.getLevel();
-
-                switch (level) {
-                    case "Basic": stats.basicInternships++; break;
-                    case "Intermediate": stats.intermediateInternships++; break;
-                    case "Advanced": stats.advancedInternships++; break;
-                }
-
-                switch (opp.getStatus()) {
-                    case "Pending": stats.pendingInternships++; break;
-                    case "Approved": stats.approvedInternships++; break;
-                    case "Rejected": stats.rejectedInternships++; break;
-                    case "Filled":
-                        stats.filledInternships++;
-                        switch (level) {
-                            case "Basic": stats.basicFilled++; break;
-                            case "Intermediate": stats.intermediateFilled++; break;
-                            case "Advanced": stats.advancedFilled++; break;
-                        }
-                        break;
-                }
-            }
-        }
+        stats.totalInternships = repStats.getTotalInternships();
+        stats.basicInternships = repStats.getPostedCount("Basic");
+        stats.intermediateInternships = repStats.getPostedCount("Intermediate");
+        stats.advancedInternships = repStats.getPostedCount("Advanced");
+        stats.pendingInternships = repStats.getInternshipCount(InternshipOpportunity.STATUS_PENDING);
+        stats.approvedInternships = repStats.getInternshipCount(InternshipOpportunity.STATUS_APPROVED);
+        stats.rejectedInternships = repStats.getInternshipCount(InternshipOpportunity.STATUS_REJECTED);
+        stats.filledInternships = repStats.getInternshipCount(InternshipOpportunity.STATUS_FILLED);
+        stats.basicFilled = repStats.getFilledCount("Basic");
+        stats.intermediateFilled = repStats.getFilledCount("Intermediate");
+        stats.advancedFilled = repStats.getFilledCount("Advanced");
         return stats;
     }
 
     /**
-     * Calculates application statistics for a company representative's internships.
+     * Reads application statistics for a company representative's internships
+     * from the incrementally maintained aggregates.
      */
-    private ApplicationStats calculateApplicationStats(CompanyRepresentative rep, InternshipStats internshipStats) {
+    private ApplicationStats calculateApplicationStats(StatisticsService.RepStatistics repStats) {
+        StatusHistogram histogram = repStats.getApplications();
         ApplicationStats stats = new ApplicationStats();
-        for (InternshipOpportunity opp : internshipRepository.getAllInternships()) {
-            if (opp.getCreatedBy().getUserID().equals(rep.getUserID())) {
-                for (Application app : applicationService.getApplicationRepository().getAllApplications()) {
-                    if (app.getOpportunity().getOpportunityID().equals(opp.getOpportunityID())) {
-                        stats.totalApplications++;
-                        switch (app.getStatusEnum()) {
-                            case CONFIRMED:
-                            case SUCCESSFUL:
-                                stats.totalAccepted++;
-                                if (app.getStatusEnum() == ApplicationStatus.CONFIRMED) {
-                                    stats.confirmedPlacements++;
-                                }
-                                break;
-                            case UNSUCCESSFUL:
-                                stats.totalRejected++;
-                                break;
-                            case WITHDRAWN:
-                                stats.withdrawnApplications++;
-                                stats.totalAccepted++;
-                                break;
-                            case WITHDRAWAL_REQUESTED:
-                                // Pending withdrawal, count as accepted for now
-                                stats.totalAccepted++;
-                                break;
-                            case WITHDRAWAL_REJECTED:
-                                // Rejected, count as rejected
-                                stats.totalRejected++;
-                                break;
-                            case PENDING:
-                                // Pending, not counted in accepted/rejected yet
-                                break;
-                        }
-                    }
-                }
-            }
-        }
+        stats.totalApplications = histogram.getTotal();
+        stats.pendingApplications = histogram.get(ApplicationStatus.PENDING);
+        stats.confirmedPlacements = histogram.get(ApplicationStatus.CONFIRMED);
+        stats.withdrawnApplications = histogram.get(ApplicationStatus.WITHDRAWN);
+        // Withdrawn and pending withdrawals were accepted first; rejected withdrawals count as rejected
+        stats.totalAccepted = histogram.get(ApplicationStatus.CONFIRMED)
+            + histogram.get(ApplicationStatus.SUCCESSFUL)
+            + histogram.get(ApplicationStatus.WITHDRAWN)
+            + histogram.get(ApplicationStatus.WITHDRAWAL_REQUESTED);
+        stats.totalRejected = histogram.get(ApplicationStatus.UNSUCCESSFUL)
+            + histogram.get(ApplicationStatus.WITHDRAWAL_REJECTED);
         return stats;
     }
 
@@ -261,8 +224,9 @@ public class Statistics {
         System.out.println("Position: " + rep.getPosition());
         System.out.println("Account Status: " + (rep.isApproved() ? "Approved" : "Pending"));
 
-        InternshipStats internshipStats = calculateInternshipStats(rep);
-        ApplicationStats applicationStats = calculateApplicationStats(rep, internshipStats);
+        StatisticsService.RepStatistics repStats = statisticsService.getRepStatistics(rep.getUserID());
+        InternshipStats internshipStats = calculateInternshipStats(repStats);
+        ApplicationStats applicationStats = calculateApplicationStats(repStats);
 
         displayInternshipStats(internshipStats);
         displayApplicationStats(applicationStats, internshipStats);
@@ -283,35 +247,16 @@ public class Statistics {
         System.out.println("Year of Study: " + student.getYearOfStudy());
         System.out.println("GPA: " + student.getGpa());
 
-        List<Application> studentApplications = new ArrayList<>();
-        for (Application app : applicationService.getApplicationRepository().getAllApplications()) {
-            if (app.getApplicant().getUserID().equals(student.getUserID())) {
-                studentApplications.add(app);
-            }
-        }
+        StatisticsService.StudentStatistics studentStats = statisticsService.getStudentStatistics(student.getUserID());
+        StatusHistogram histogram = studentStats.getApplications();
 
-        int totalApplications = studentApplications.size();
-        int pendingApplications = 0;
-        int successfulApplications = 0;
-        int unsuccessfulApplications = 0;
-        int confirmedApplications = 0;
-        int withdrawnApplications = 0;
-
-        for (Application app : studentApplications) {
-            String statusToCount = app.getStatus();
-            // For withdrawal requests, count under previous status until approved
-            if ("Withdrawal Requested".equals(statusToCount) && app.getPreviousStatus() != null) {
-                statusToCount = app.getPreviousStatus();
-            }
-            
-            switch (statusToCount) {
-                case "Pending": pendingApplications++; break;
-                case "Successful": successfulApplications++; break;
-                case "Unsuccessful": unsuccessfulApplications++; break;
-                case "Confirmed": confirmedApplications++; break;
-                case "Withdrawn": withdrawnApplications++; break;
-            }
-        }
+        // Withdrawal requests are counted under the status they were made from until approved
+        int totalApplications = histogram.getTotal();
+        int pendingApplications = histogram.get(ApplicationStatus.PENDING);
+        int successfulApplications = histogram.get(ApplicationStatus.SUCCESSFUL);
+        int unsuccessfulApplications = histogram.get(ApplicationStatus.UNSUCCESSFUL);
+        int confirmedApplications = histogram.get(ApplicationStatus.CONFIRMED);
+        int withdrawnApplications = histogram.get(ApplicationStatus.WITHDRAWN);
 
         System.out.println("\nApplication Summary:");
         System.out.println("Total Applications Submitted: " + totalApplications);
@@ -341,15 +286,10 @@ public class Statistics {
         System.out.println("Student Major: " + student.getMajor());
         
         // Unique companies applied to
-        Set<String> companies = new HashSet<>();
-        for (Application app : studentApplications) {
-            companies.add(app.getOpportunity().getCreatedBy().getCompanyName());
-        }
-        System.out.println("Unique Companies Applied To: " + companies.size());
+        System.out.println("Unique Companies Applied To: " + studentStats.getUniqueCompanies());
         
         // Total internships available
-        List<InternshipOpportunity> allInternships = internshipRepository.getAllInternships();
-        System.out.println("Total Internships Available: " + allInternships.size());
+        System.out.println("Total Internships Available: " + internshipRepository.getAllInternships().size());
     }
 
     // Getters
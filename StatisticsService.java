@@ -0,0 +1,397 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Singleton that keeps dashboard statistics up to date as data changes.
+ * It is built once from the repositories and then subscribes to their
+ * change events on the publishing thread, adjusting per-representative,
+ * per-student and global aggregates by the difference, so reading them
+ * never rescans the tables.
+ */
+public class StatisticsService {
+    private static StatisticsService instance;
+    private IInternshipRepository internshipRepository;
+    private IApplicationRepository applicationRepository;
+    private final List<ChangeEventBus.Subscription> subscriptions = new ArrayList<>();
+    private final Map<String, RepAggregate> reps = new HashMap<>(); // keyed by normalized representative ID
+    private final Map<String, StudentAggregate> students = new HashMap<>(); // keyed by normalized student ID
+    private final Map<InternshipOpportunity, InternshipKey> countedInternships = new IdentityHashMap<>(); // what each internship is counted under
+    private final Map<Application, ApplicationStatus> countedApplications = new IdentityHashMap<>(); // student status each application is counted under
+    private StatusHistogram globalApplications = new StatusHistogram();
+    private final Map<String, Integer> globalInternships = new HashMap<>();
+
+    private StatisticsService() {}
+
+    /**
+     * Gets the singleton instance of StatisticsService.
+     *
+     * @return the instance
+     */
+    public static synchronized StatisticsService getInstance() {
+        if (instance == null) {
+            instance = new StatisticsService();
+        }
+        return instance;
+    }
+
+    /**
+     * Builds the aggregates from the repositories and subscribes to their
+     * changes. Calling it again with the same repositories does nothing.
+     *
+     * @param internshipRepository the internship repository
+     * @param applicationRepository the application repository
+     */
+    public synchronized void initialize(IInternshipRepository internshipRepository, IApplicationRepository applicationRepository) {
+        if (this.internshipRepository == internshipRepository && this.applicationRepository == applicationRepository) {
+            return;
+        }
+        this.internshipRepository = internshipRepository;
+        this.applicationRepository = applicationRepository;
+        reps.clear();
+        students.clear();
+        countedInternships.clear();
+        countedApplications.clear();
+        globalInternships.clear();
+        globalApplications = new StatusHistogram();
+        subscriptions.forEach(ChangeEventBus.Subscription::cancel);
+        subscriptions.clear();
+        subscriptions.add(internshipRepository.getEventBus().subscribe(InternshipOpportunity.class, this::onInternshipEvent));
+        subscriptions.add(applicationRepository.getEventBus().subscribe(Application.class, this::onApplicationEvent));
+        internshipRepository.forEachInternship(this::countInternship);
+        applicationRepository.forEachApplication(this::countApplication);
+    }
+
+    /**
+     * Checks if the aggregates have been built.
+     *
+     * @return true once initialize has been called
+     */
+    public synchronized boolean isInitialized() {
+        return internshipRepository != null;
+    }
+
+    /**
+     * Gets the statistics of a company representative.
+     *
+     * @param repId the representative ID
+     * @return a copy of the representative's aggregates
+     */
+    public synchronized RepStatistics getRepStatistics(String repId) {
+        RepAggregate aggregate = reps.get(normalizeId(repId));
+        return aggregate == null ? new RepStatistics(new RepAggregate()) : new RepStatistics(aggregate);
+    }
+
+    /**
+     * Gets the statistics of a student.
+     *
+     * @param studentId the student ID
+     * @return a copy of the student's aggregates
+     */
+    public synchronized StudentStatistics getStudentStatistics(String studentId) {
+        StudentAggregate aggregate = students.get(normalizeId(studentId));
+        return aggregate == null ? new StudentStatistics(new StudentAggregate()) : new StudentStatistics(aggregate);
+    }
+
+    /**
+     * Gets the histogram of all applications.
+     *
+     * @return a copy of the global histogram
+     */
+    public synchronized StatusHistogram getApplicationTotals() {
+        return globalApplications.copy();
+    }
+
+    /**
+     * Gets the number of internships in each status.
+     *
+     * @return a copy of the global counts by status
+     */
+    public synchronized Map<String, Integer> getInternshipTotals() {
+        return new HashMap<>(globalInternships);
+    }
+
+    private synchronized void onApplicationEvent(ChangeEvent<Application> event) {
+        switch (event.getKind()) {
+            case CREATED:
+                countApplication(event.getEntity());
+                break;
+            case STATUS_CHANGED:
+                onStatusChanged(event.getEntity(), (ApplicationStatus) event.getBefore(), (ApplicationStatus) event.getAfter());
+                break;
+            default:
+                break; // applications are never removed and have no other tracked fields
+        }
+    }
+
+    private synchronized void onInternshipEvent(ChangeEvent<InternshipOpportunity> event) {
+        switch (event.getKind()) {
+            case CREATED:
+                countInternship(event.getEntity());
+                break;
+            case REMOVED:
+                uncountInternship(event.getEntity());
+                break;
+            default:
+                recountInternship(event.getEntity());
+                break;
+        }
+    }
+
+    private void onStatusChanged(Application application, ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+        ApplicationStatus counted = countedApplications.get(application);
+        if (counted == null) {
+            countApplication(application); // added before this service subscribed
+            return;
+        }
+        RepAggregate rep = reps.get(repIdOf(application));
+        rep.applications.remove(oldStatus);
+        rep.applications.add(newStatus);
+        globalApplications.remove(oldStatus);
+        globalApplications.add(newStatus);
+
+        StudentAggregate student = students.get(studentIdOf(application));
+        student.applications.remove(counted);
+        ApplicationStatus current = studentStatusOf(application);
+        student.applications.add(current);
+        countedApplications.put(application, current);
+    }
+
+    private void recountInternship(InternshipOpportunity internship) {
+        InternshipKey counted = countedInternships.get(internship);
+        InternshipKey current = new InternshipKey(internship);
+        if (counted == null || counted.equals(current)) {
+            return;
+        }
+        apply(counted, -1);
+        apply(current, 1);
+        countedInternships.put(internship, current);
+    }
+
+    private void uncountInternship(InternshipOpportunity internship) {
+        InternshipKey counted = countedInternships.remove(internship);
+        if (counted != null) {
+            apply(counted, -1);
+        }
+    }
+
+    private void countInternship(InternshipOpportunity internship) {
+        if (countedInternships.containsKey(internship)) {
+            return;
+        }
+        InternshipKey key = new InternshipKey(internship);
+        apply(key, 1);
+        countedInternships.put(internship, key);
+    }
+
+    private void countApplication(Application application) {
+        if (countedApplications.containsKey(application)) {
+            return;
+        }
+        reps.computeIfAbsent(repIdOf(application), k -> new RepAggregate()).applications.add(application.getStatusEnum());
+        globalApplications.add(application.getStatusEnum());
+
+        StudentAggregate student = students.computeIfAbsent(studentIdOf(application), k -> new StudentAggregate());
+        ApplicationStatus counted = studentStatusOf(application);
+        student.applications.add(counted);
+        student.companies.merge(application.getOpportunity().getCreatedBy().getCompanyName(), 1, Integer::sum);
+        countedApplications.put(application, counted);
+    }
+
+    /**
+     * Adds or subtracts one internship's contribution to its representative's
+     * counts and the global counts.
+     *
+     * @param key the status, level and creator the internship is counted under
+     * @param delta 1 to add, -1 to subtract
+     */
+    private void apply(InternshipKey key, int delta) {
+        RepAggregate rep = reps.computeIfAbsent(key.repId, k -> new RepAggregate());
+        rep.totalInternships += delta;
+        rep.byStatus.merge(key.status, delta, Integer::sum);
+        rep.postedByLevel.merge(key.level, delta, Integer::sum);
+        if (InternshipOpportunity.STATUS_FILLED.equals(key.status)) {
+            rep.filledByLevel.merge(key.level, delta, Integer::sum);
+        }
+        globalInternships.merge("Total", delta, Integer::sum);
+        globalInternships.merge(key.status, delta, Integer::sum);
+    }
+
+    private static String repIdOf(Application application) {
+        return normalizeId(application.getOpportunity().getCreatedBy().getUserID());
+    }
+
+    private static String studentIdOf(Application application) {
+        return normalizeId(application.getApplicant().getUserID());
+    }
+
+    /**
+     * Normalizes a user ID the same way the user repository's index does, so
+     * IDs that differ only in case share one aggregate.
+     *
+     * @param userId the user ID
+     * @return the key for the per-user maps
+     */
+    private static String normalizeId(String userId) {
+        return userId.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the status a student's application is counted under. A withdrawal
+     * request counts under the status it was made from until it is approved.
+     *
+     * @param application the application
+     * @return the status to count
+     */
+    private static ApplicationStatus studentStatusOf(Application application) {
+        ApplicationStatus status = application.getStatusEnum();
+        if (status == ApplicationStatus.WITHDRAWAL_REQUESTED && application.getPreviousStatusEnum() != null) {
+            return application.getPreviousStatusEnum();
+        }
+        return status;
+    }
+
+    /**
+     * Status, level and creator an internship was last counted under.
+     */
+    private static final class InternshipKey {
+        private final String repId;
+        private final String status;
+        private final String level;
+
+        private InternshipKey(InternshipOpportunity internship) {
+            this.repId = normalizeId(internship.getCreatedBy().getUserID());
+            this.status = internship.getStatus();
+            this.level = internship.getLevel();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof InternshipKey)) {
+                return false;
+            }
+            InternshipKey other = (InternshipKey) o;
+            return repId.equals(other.repId) && status.equals(other.status) && level.equals(other.level);
+        }
+
+        @Override
+        public int hashCode() {
+            return (repId.hashCode() * 31 + status.hashCode()) * 31 + level.hashCode();
+        }
+    }
+
+    private static final class RepAggregate {
+        private int totalInternships;
+        private final Map<String, Integer> byStatus = new HashMap<>();
+        private final Map<String, Integer> postedByLevel = new HashMap<>();
+        private final Map<String, Integer> filledByLevel = new HashMap<>();
+        private final StatusHistogram applications = new StatusHistogram();
+    }
+
+    private static final class StudentAggregate {
+        private final StatusHistogram applications = new StatusHistogram();
+        private final Map<String, Integer> companies = new HashMap<>(); // applications per company name
+    }
+
+    /**
+     * Point-in-time copy of a company representative's statistics.
+     */
+    public static final class RepStatistics {
+        private final int totalInternships;
+        private final Map<String, Integer> byStatus;
+        private final Map<String, Integer> postedByLevel;
+        private final Map<String, Integer> filledByLevel;
+        private final StatusHistogram applications;
+
+        private RepStatistics(RepAggregate aggregate) {
+            this.totalInternships = aggregate.totalInternships;
+            this.byStatus = new HashMap<>(aggregate.byStatus);
+            this.postedByLevel = new HashMap<>(aggregate.postedByLevel);
+            this.filledByLevel = new HashMap<>(aggregate.filledByLevel);
+            this.applications = aggregate.applications.copy();
+        }
+
+        /**
+         * Gets the number of internships posted.
+         *
+         * @return the internship count
+         */
+        public int getTotalInternships() {
+            return totalInternships;
+        }
+
+        /**
+         * Gets the number of internships in a status.
+         *
+         * @param status the internship status
+         * @return the count
+         */
+        public int getInternshipCount(String status) {
+            return byStatus.getOrDefault(status, 0);
+        }
+
+        /**
+         * Gets the number of internships posted at a level.
+         *
+         * @param level the internship level
+         * @return the count
+         */
+        public int getPostedCount(String level) {
+            return postedByLevel.getOrDefault(level, 0);
+        }
+
+        /**
+         * Gets the number of filled internships at a level.
+         *
+         * @param level the internship level
+         * @return the count
+         */
+        public int getFilledCount(String level) {
+            return filledByLevel.getOrDefault(level, 0);
+        }
+
+        /**
+         * Gets the histogram of applications received.
+         *
+         * @return the histogram
+         */
+        public StatusHistogram getApplications() {
+            return applications;
+        }
+    }
+
+    /**
+     * Point-in-time copy of a student's statistics.
+     */
+    public static final class StudentStatistics {
+        private final StatusHistogram applications;
+        private final int uniqueCompanies;
+
+        private StudentStatistics(StudentAggregate aggregate) {
+            this.applications = aggregate.applications.copy();
+            this.uniqueCompanies = aggregate.companies.size();
+        }
+
+        /**
+         * Gets the histogram of the student's applications. Withdrawal
+         * requests are counted under the status they were made from.
+         *
+         * @return the histogram
+         */
+        public StatusHistogram getApplications() {
+            return applications;
+        }
+
+        /**
+         * Gets the number of distinct companies applied to.
+         *
+         * @return the company count
+         */
+        public int getUniqueCompanies() {
+            return uniqueCompanies;
+        }
+    }
+}
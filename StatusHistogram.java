@@ -0,0 +1,59 @@
+/**
+ * Count of applications per {@link ApplicationStatus}, backed by an int array
+ * indexed by status ordinal.
+ */
+public class StatusHistogram {
+    private final int[] counts = new int[ApplicationStatus.values().length];
+    private int total;
+
+    /**
+     * Counts one application in the given status.
+     *
+     * @param status the application status
+     */
+    public void add(ApplicationStatus status) {
+        counts[status.ordinal()]++;
+        total++;
+    }
+
+    /**
+     * Stops counting one application in the given status.
+     *
+     * @param status the application status
+     */
+    public void remove(ApplicationStatus status) {
+        counts[status.ordinal()]--;
+        total--;
+    }
+
+    /**
+     * Copies the counts into a new histogram.
+     *
+     * @return the copy
+     */
+    public StatusHistogram copy() {
+        StatusHistogram copy = new StatusHistogram();
+        System.arraycopy(counts, 0, copy.counts, 0, counts.length);
+        copy.total = total;
+        return copy;
+    }
+
+    /**
+     * Gets the number of applications in a status.
+     *
+     * @param status the application status
+     * @return the count
+     */
+    public int get(ApplicationStatus status) {
+        return counts[status.ordinal()];
+    }
+
+    /**
+     * Gets the number of applications counted in any status.
+     *
+     * @return the total count
+     */
+    public int getTotal() {
+        return total;
+    }
+}
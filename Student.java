@@ -106,9 +106,8 @@ public class Student extends User {
         for (InternshipOpportunity opportunity : internshipRepository.getAllInternships()) {
             if (InternshipOpportunity.STATUS_APPROVED.equals(opportunity.getStatus())) {
                 boolean hasApplied = false;
-                for (Application app : applicationRepository.getAllApplications()) {
-                    if (app.getApplicant().getUserID().equals(this.userID) &&
-                        app.getOpportunity().getOpportunityID().equals(opportunity.getOpportunityID())) {
+                for (Application app : applicationRepository.getApplicationsByStudent(this.userID)) {
+                    if (app.getOpportunity().getOpportunityID().equals(opportunity.getOpportunityID())) {
                         hasApplied = true;
                         break;
                     }
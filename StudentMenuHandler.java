@@ -1,7 +1,6 @@
 import java.text.SimpleDateFormat;
 import java.util.List;
 import java.util.Scanner;
-import java.util.stream.Collectors;
 
 /**
  * Menu handler for student operations.
@@ -14,6 +13,7 @@ public class StudentMenuHandler implements IMenuHandler {
     private final IUserService userService;
     private final Scanner scanner;
     private final FilterManager filterManager;
+    private boolean loggedOut = false;
 
     /**
      * Constructs a StudentMenuHandler.
@@ -45,6 +45,11 @@ public class StudentMenuHandler implements IMenuHandler {
         this.filterManager = FilterManagerFactory.createFilterManager(scanner);
     }
 
+    @Override
+    public boolean isLoggedOut() {
+        return loggedOut;
+    }
+
     /**
      * Displays the menu and handles user choices.
      */
@@ -120,18 +125,14 @@ public class StudentMenuHandler implements IMenuHandler {
 
         // Use ApplicationService to get eligible internships
         List<InternshipOpportunity> internships = applicationService.getEligibleInternshipsForStudent(student.getUserID());
-        internships = filterManager.getFilterSettings().applyFilters(internships);
+        internships = filterManager.getFilterSettings().applyFilters(internships, internshipService.getInternshipRepository());
 
         if (internships.isEmpty()) {
             UIHelper.printWarningMessage("No eligible internships found.");
         } else {
             SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
             for (var internship : internships) {
-                int filledSlots = applicationService.getApplicationsForInternship(internship.getOpportunityID()).stream()
-                    .mapToInt(app -> {
-                        ApplicationStatus status = app.getStatusEnum();
-                        return (status == ApplicationStatus.CONFIRMED || status == ApplicationStatus.SUCCESSFUL || status == ApplicationStatus.WITHDRAWAL_REQUESTED) ? 1 : 0;
-                    }).sum();
+                int filledSlots = applicationService.getFilledSlots(internship.getOpportunityID());
                 System.out.println("ID: " + internship.getOpportunityID());
                 System.out.println("Title: " + internship.getTitle());
                 System.out.println("Company: " + internship.getCreatedBy().getCompanyName());
@@ -150,10 +151,8 @@ public class StudentMenuHandler implements IMenuHandler {
         UIHelper.printSectionHeader("APPLY FOR INTERNSHIP");
 
         // Get eligible internships
-        List<InternshipOpportunity> internships = internshipService.getAllInternships().stream()
-            .filter(i -> i.isVisible() && i.getStatus().equals("Approved") && student.isEligibleForInternship(i))
-            .collect(Collectors.toList());
-        internships = filterManager.getFilterSettings().applyFilters(internships);
+        List<InternshipOpportunity> internships = applicationService.getEligibleInternshipsForStudent(student.getUserID());
+        internships = filterManager.getFilterSettings().applyFilters(internships, internshipService.getInternshipRepository());
 
         if (internships.isEmpty()) {
             System.out.println("No eligible internships found.");
@@ -164,11 +163,7 @@ public class StudentMenuHandler implements IMenuHandler {
         System.out.println("\nEligible Internships:");
         int index = 1;
         for (InternshipOpportunity internship : internships) {
-            int filledSlots = applicationService.getApplicationsForInternship(internship.getOpportunityID()).stream()
-                .mapToInt(app -> {
-                    ApplicationStatus status = app.getStatusEnum();
-                    return (status == ApplicationStatus.CONFIRMED || status == ApplicationStatus.SUCCESSFUL || status == ApplicationStatus.WITHDRAWAL_REQUESTED) ? 1 : 0;
-                }).sum();
+            int filledSlots = applicationService.getFilledSlots(internship.getOpportunityID());
             System.out.println(index + ". ID: " + internship.getOpportunityID() + " - " + internship.getTitle() + " (Filled: " + filledSlots + "/" + internship.getMaxSlots() + ")");
             index++;
         }
@@ -375,6 +370,7 @@ public class StudentMenuHandler implements IMenuHandler {
     private void logout() {
         UIHelper.printSuccessMessage("Logged out successfully!");
         student.logout();
+        loggedOut = true;
     }
     
 }
@@ -0,0 +1,156 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves terminal sessions over a local TCP socket, so several people can use
+ * one deployment at once (e.g. {@code nc localhost 7070}). Every session runs
+ * on its own thread with its own scanner and menu handlers, and all sessions
+ * share one {@link ServiceFactory}. Connections beyond the session cap are
+ * turned away with a message instead of queuing.
+ * <p>
+ * Configured with {@code ipms.serverPort} (default 7070),
+ * {@code ipms.maxSessions} (default 32) and {@code ipms.sessionIdleMs}
+ * (default ten minutes, 0 to never time out).
+ */
+public class TerminalServer {
+    static final int PORT = Integer.getInteger("ipms.serverPort", 7070);
+    private static final int MAX_SESSIONS = Integer.getInteger("ipms.maxSessions", 32);
+    private static final long IDLE_TIMEOUT_MS = Long.getLong("ipms.sessionIdleMs", 10 * 60 * 1000L);
+
+    private final ServiceFactory serviceFactory;
+    private final int maxSessions;
+    private final long idleTimeoutMillis;
+    private final Semaphore sessionSlots;
+    private final AtomicInteger sessionCounter = new AtomicInteger();
+    private final ExecutorService sessions;
+    private volatile ServerSocket serverSocket;
+    private volatile boolean shutdown = false;
+
+    /**
+     * Constructs a TerminalServer with the configured session cap and idle timeout.
+     *
+     * @param serviceFactory the initialized services shared by all sessions
+     */
+    public TerminalServer(ServiceFactory serviceFactory) {
+        this(serviceFactory, MAX_SESSIONS, IDLE_TIMEOUT_MS);
+    }
+
+    /**
+     * Constructs a TerminalServer.
+     *
+     * @param serviceFactory the initialized services shared by all sessions
+     * @param maxSessions the maximum number of concurrent sessions
+     * @param idleTimeoutMillis how long a session may wait for input before it is closed, or 0 to wait forever
+     */
+    public TerminalServer(ServiceFactory serviceFactory, int maxSessions, long idleTimeoutMillis) {
+        this.serviceFactory = serviceFactory;
+        this.maxSessions = Math.max(1, maxSessions);
+        this.idleTimeoutMillis = Math.max(0, idleTimeoutMillis);
+        this.sessionSlots = new Semaphore(this.maxSessions);
+        // One thread per session: sessions spend nearly all their time blocked on client input
+        this.sessions = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "terminal-session");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Accepts sessions on the loopback interface until {@link #shutdown()} is called.
+     *
+     * @param port the TCP port, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public void serve(int port) throws IOException {
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            serverSocket = server;
+            SessionConsole.install();
+            System.out.println("Serving terminal sessions on " + server.getInetAddress().getHostAddress() + ":" + server.getLocalPort()
+                + " (max " + maxSessions + " sessions)");
+            while (!shutdown) {
+                Socket client;
+                try {
+                    client = server.accept();
+                } catch (IOException e) {
+                    if (shutdown) {
+                        break;
+                    }
+                    System.err.println("Error accepting session: " + e.getMessage());
+                    continue;
+                }
+                admit(client);
+            }
+        }
+    }
+
+    /**
+     * Starts a session for a new connection, or turns it away if the cap is reached.
+     *
+     * @param client the connected client
+     */
+    private void admit(Socket client) {
+        if (!sessionSlots.tryAcquire()) {
+            refuse(client);
+            return;
+        }
+        int sessionId = sessionCounter.incrementAndGet();
+        try {
+            sessions.execute(new TerminalSession(sessionId, client, serviceFactory, idleTimeoutMillis, sessionSlots::release));
+        } catch (RuntimeException e) {
+            sessionSlots.release();
+            refuse(client);
+        }
+    }
+
+    private void refuse(Socket client) {
+        try (Socket rejected = client; OutputStream out = rejected.getOutputStream()) {
+            String message = "All " + maxSessions + " sessions are in use. Please try again later." + System.lineSeparator();
+            out.write(message.getBytes(Charset.defaultCharset()));
+        } catch (IOException e) {
+            // client already gone
+        }
+    }
+
+    /**
+     * Gets the port sessions are accepted on.
+     *
+     * @return the bound port, or -1 if the server is not serving
+     */
+    public int getPort() {
+        ServerSocket server = serverSocket;
+        return server == null ? -1 : server.getLocalPort();
+    }
+
+    /**
+     * Gets the number of sessions currently open.
+     *
+     * @return the active session count
+     */
+    public int getActiveSessionCount() {
+        return maxSessions - sessionSlots.availablePermits();
+    }
+
+    /**
+     * Stops accepting sessions. Open sessions are daemon threads and end with the process.
+     */
+    public void shutdown() {
+        shutdown = true;
+        ServerSocket server = serverSocket;
+        if (server != null) {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // already closed
+            }
+        }
+        sessions.shutdown();
+    }
+}
@@ -0,0 +1,120 @@
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.Charset;
+import java.util.Scanner;
+
+/**
+ * One terminal session served over a socket. The session runs the usual
+ * login and menu loop with its own scanner and menu handlers, and its
+ * {@code System.out} output is routed to the socket by {@link SessionConsole}.
+ * The session ends when the user exits, the client disconnects, or no input
+ * arrives within the idle timeout.
+ */
+public class TerminalSession implements Runnable {
+    private final int sessionId;
+    private final Socket socket;
+    private final ServiceFactory serviceFactory;
+    private final long idleTimeoutMillis;
+    private final Runnable onClose;
+
+    /**
+     * Constructs a TerminalSession.
+     *
+     * @param sessionId the session number, for logging
+     * @param socket the connected client
+     * @param serviceFactory the services shared by all sessions
+     * @param idleTimeoutMillis how long to wait for input before closing the session, or 0 to wait forever
+     * @param onClose run once when the session has ended
+     */
+    public TerminalSession(int sessionId, Socket socket, ServiceFactory serviceFactory, long idleTimeoutMillis, Runnable onClose) {
+        this.sessionId = sessionId;
+        this.socket = socket;
+        this.serviceFactory = serviceFactory;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public void run() {
+        try (Socket client = socket) {
+            client.setSoTimeout((int) Math.min(Integer.MAX_VALUE, idleTimeoutMillis));
+            PrintStream out = new PrintStream(new BufferedOutputStream(client.getOutputStream()), false, Charset.defaultCharset());
+            SessionInput in = new SessionInput(client.getInputStream(), out);
+            SessionConsole.bind(out);
+            try {
+                UIHelper.printWelcomeBanner();
+                InternshipPlacementSystem system = new InternshipPlacementSystem(serviceFactory, new Scanner(in));
+                in.onEnd = system::stop;
+                system.run();
+                if (in.timedOut) {
+                    out.println();
+                    out.println("  Session closed after " + (idleTimeoutMillis / 1000) + " seconds without input.");
+                }
+                out.flush();
+            } finally {
+                SessionConsole.unbind();
+                ConsoleRenderer.reset();
+            }
+        } catch (IOException e) {
+            System.err.println("Session " + sessionId + " ended: " + e.getMessage());
+        } finally {
+            onClose.run();
+        }
+    }
+
+    /**
+     * Session input that flushes pending output before every read, so a
+     * prompt always reaches the client before the session waits for the
+     * answer, and that reports when input ends or times out.
+     */
+    private static final class SessionInput extends FilterInputStream {
+        private final PrintStream out;
+        private Runnable onEnd = () -> { };
+        private boolean timedOut = false;
+
+        private SessionInput(InputStream in, PrintStream out) {
+            super(in);
+            this.out = out;
+        }
+
+        @Override
+        public int read() throws IOException {
+            out.flush();
+            try {
+                int b = super.read();
+                if (b < 0) {
+                    onEnd.run();
+                }
+                return b;
+            } catch (IOException e) {
+                ended(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            out.flush();
+            try {
+                int n = super.read(b, off, len);
+                if (n < 0) {
+                    onEnd.run();
+                }
+                return n;
+            } catch (IOException e) {
+                ended(e);
+                throw e;
+            }
+        }
+
+        private void ended(IOException e) {
+            timedOut = e instanceof SocketTimeoutException;
+            onEnd.run();
+        }
+    }
+}
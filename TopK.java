@@ -0,0 +1,56 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Selects the first K items of a listing in a given order without sorting the
+ * whole listing. Items stream through a bounded heap holding the best K seen
+ * so far, so selection is O(n log K) time and O(K) space.
+ */
+public final class TopK {
+    private TopK() {}
+
+    /**
+     * Selects the first K items in the given order.
+     *
+     * @param source feeds every candidate item to the given action
+     * @param order the order, best item first
+     * @param k the maximum number of items to keep
+     * @param <T> the item type
+     * @return at most K items, sorted in the given order
+     */
+    public static <T> List<T> select(Consumer<Consumer<? super T>> source, Comparator<? super T> order, int k) {
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+        Comparator<? super T> worstFirst = Collections.reverseOrder(order);
+        PriorityQueue<T> heap = new PriorityQueue<>(k + 1, worstFirst);
+        source.accept(item -> {
+            if (heap.size() < k) {
+                heap.add(item);
+            } else if (order.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        });
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+
+    /**
+     * Selects the first K items of a list in the given order.
+     *
+     * @param items the candidates
+     * @param order the order, best item first
+     * @param k the maximum number of items to keep
+     * @param <T> the item type
+     * @return at most K items, sorted in the given order
+     */
+    public static <T> List<T> select(Iterable<? extends T> items, Comparator<? super T> order, int k) {
+        return select(action -> items.forEach(action), order, k);
+    }
+}
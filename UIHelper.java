@@ -1,8 +1,15 @@
+import java.util.List;
+import java.util.Scanner;
+import java.util.function.BiConsumer;
+
 /**
  * Utility class for UI-related helper methods.
  * Provides static methods for displaying menus, messages, and banners.
  */
 public class UIHelper {
+    /** Rows per page in paged listings, set by {@code ipms.pageSize}. */
+    public static final int PAGE_SIZE = Math.max(1, Integer.getInteger("ipms.pageSize", 10));
+
     private UIHelper() {
         // Utility class
     }
@@ -11,68 +18,78 @@ public class UIHelper {
      * Prints the welcome banner.
      */
     public static void printWelcomeBanner() {
-        System.out.println("╔═══════════════════════════════════════════════════════════════╗");
-        System.out.println("║                                                               ║");
-        System.out.println("║        INTERNSHIP PLACEMENT MANAGEMENT SYSTEM (IPMS)          ║");
-        System.out.println("║                                                               ║");
-        System.out.println("║          Your Gateway to Professional Opportunities           ║");
-        System.out.println("║                                                               ║");
-        System.out.println("╚═══════════════════════════════════════════════════════════════╝");
-        System.out.println();
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line("╔═══════════════════════════════════════════════════════════════╗");
+            screen.line("║                                                               ║");
+            screen.line("║        INTERNSHIP PLACEMENT MANAGEMENT SYSTEM (IPMS)          ║");
+            screen.line("║                                                               ║");
+            screen.line("║          Your Gateway to Professional Opportunities           ║");
+            screen.line("║                                                               ║");
+            screen.line("╚═══════════════════════════════════════════════════════════════╝");
+            screen.line();
+        }
     }
 
     /**
      * Prints the main menu.
      */
     public static void printMainMenu() {
-        System.out.println("\n┌─────────────────────────────────────────────────────────────┐");
-        System.out.println("│                         MAIN MENU                           │");
-        System.out.println("└─────────────────────────────────────────────────────────────┘");
-        System.out.println();
-        System.out.println("  [1] Log In to Your Account");
-        System.out.println("  [2] Register New Account");
-        System.out.println("  [3] Exit System");
-        System.out.println();
-        System.out.print(" Enter your choice: ");
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line("\n┌─────────────────────────────────────────────────────────────┐");
+            screen.line("│                         MAIN MENU                           │");
+            screen.line("└─────────────────────────────────────────────────────────────┘");
+            screen.line();
+            screen.line("  [1] Log In to Your Account");
+            screen.line("  [2] Register New Account");
+            screen.line("  [3] Exit System");
+            screen.line();
+            screen.text(" Enter your choice: ");
+        }
     }
 
     /**
      * Prints the registration menu.
      */
     public static void printRegistrationMenu() {
-        System.out.println("\n┌─────────────────────────────────────────────────────────────┐");
-        System.out.println("│                    REGISTRATION MENU                        │");
-        System.out.println("└─────────────────────────────────────────────────────────────┘");
-        System.out.println();
-        System.out.println("  [1] Register as Student");
-        System.out.println("  [2] Register as Career Center Staff");
-        System.out.println("  [3] Register as Company Representative");
-        System.out.println("  [4] Back to Main Menu");
-        System.out.println();
-        System.out.print(" Enter your choice: ");
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line("\n┌─────────────────────────────────────────────────────────────┐");
+            screen.line("│                    REGISTRATION MENU                        │");
+            screen.line("└─────────────────────────────────────────────────────────────┘");
+            screen.line();
+            screen.line("  [1] Register as Student");
+            screen.line("  [2] Register as Career Center Staff");
+            screen.line("  [3] Register as Company Representative");
+            screen.line("  [4] Back to Main Menu");
+            screen.line();
+            screen.text(" Enter your choice: ");
+        }
     }
 
     /**
      * Prints the goodbye message.
      */
     public static void printGoodbyeMessage() {
-        System.out.println();
-        System.out.println("  ╔═════════════════════════════════════════════════════════╗");
-        System.out.println("  ║  Thank you for using the Internship Placement System    ║");
-        System.out.println("  ║              Have a great day ahead!                    ║");
-        System.out.println("  ╚═════════════════════════════════════════════════════════╝");
-        System.out.println();
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line();
+            screen.line("  ╔═════════════════════════════════════════════════════════╗");
+            screen.line("  ║  Thank you for using the Internship Placement System    ║");
+            screen.line("  ║              Have a great day ahead!                    ║");
+            screen.line("  ╚═════════════════════════════════════════════════════════╝");
+            screen.line();
+        }
     }
 
     /**
      * Prints the login header.
      */
     public static void printLoginHeader() {
-        System.out.println();
-        System.out.println("┌─────────────────────────────────────────────────────────────┐");
-        System.out.println("│                      USER LOGIN                             │");
-        System.out.println("└─────────────────────────────────────────────────────────────┘");
-        System.out.println();
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line();
+            screen.line("┌─────────────────────────────────────────────────────────────┐");
+            screen.line("│                      USER LOGIN                             │");
+            screen.line("└─────────────────────────────────────────────────────────────┘");
+            screen.line();
+        }
     }
 
     /**
@@ -81,9 +98,11 @@ public class UIHelper {
      * @param message the message to print
      */
     public static void printSuccessMessage(String message) {
-        System.out.println();
-        System.out.println("  " + message);
-        System.out.println();
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line();
+            screen.line("  " + message);
+            screen.line();
+        }
     }
 
     /**
@@ -92,8 +111,10 @@ public class UIHelper {
      * @param message the message to print
      */
     public static void printErrorMessage(String message) {
-        System.out.println();
-        System.out.println("  " + message);
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line();
+            screen.line("  " + message);
+        }
     }
 
     /**
@@ -102,8 +123,10 @@ public class UIHelper {
      * @param message the message to print
      */
     public static void printWarningMessage(String message) {
-        System.out.println();
-        System.out.println("  " + message);
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line();
+            screen.line("  " + message);
+        }
     }
 
     /**
@@ -112,40 +135,116 @@ public class UIHelper {
      * @param title the title to print
      */
     public static void printSectionHeader(String title) {
-        System.out.println("\n=== " + title + " ===");
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line("\n=== " + title + " ===");
+        }
+    }
+
+    /**
+     * Prints how long loading a data file took.
+     *
+     * @param file the data file that was loaded
+     * @param records the number of records loaded
+     * @param elapsedNanos the time spent loading, in nanoseconds
+     */
+    public static void printLoadTiming(String file, int records, long elapsedNanos) {
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            long elapsedMillis = elapsedNanos / 1_000_000;
+            screen.line("  Loaded " + records + " record(s) from " + file + " in " + elapsedMillis + " ms");
+        }
+    }
+
+    /**
+     * Prints how many bytes a save wrote to a data file.
+     *
+     * @param file the data file that was written
+     * @param bytes the bytes written by this save
+     * @param totalBytes the bytes written to the repository's files since startup
+     */
+    public static void printSaveBytes(String file, long bytes, long totalBytes) {
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line("  Saved " + bytes + " byte(s) to " + file + " (" + totalBytes + " since startup)");
+        }
+    }
+
+    /**
+     * Prints a listing one page at a time, each page in a single write. After
+     * each page that is not the only one, the user can move to the next or
+     * previous page or return.
+     *
+     * @param items the listing
+     * @param printer renders one item into the page
+     * @param scanner the scanner for input
+     * @param <T> the item type
+     */
+    public static <T> void printPaged(List<T> items, BiConsumer<ConsoleRenderer, ? super T> printer, Scanner scanner) {
+        Page<T> page = Page.of(items, 0, PAGE_SIZE);
+        while (true) {
+            try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+                for (T item : page.getItems()) {
+                    printer.accept(screen, item);
+                }
+                if (page.getPageCount() == 1) {
+                    return;
+                }
+                screen.line("Page " + page.getPageNumber() + " of " + page.getPageCount()
+                    + " (" + (page.getOffset() + 1) + "-" + page.getNextOffset() + " of " + page.getTotal() + ")");
+                screen.text((page.hasNext() ? "[N]ext  " : "") + (page.hasPrevious() ? "[P]revious  " : "") + "[Enter] Return: ");
+            }
+            if (!scanner.hasNextLine()) {
+                return;
+            }
+            String choice = scanner.nextLine().trim().toLowerCase();
+            if (choice.equals("n") && page.hasNext()) {
+                page = Page.of(items, page.getNextOffset(), PAGE_SIZE);
+            } else if (choice.equals("p") && page.hasPrevious()) {
+                page = Page.of(items, page.getPreviousOffset(), PAGE_SIZE);
+            } else {
+                return;
+            }
+            System.out.println();
+        }
     }
 
     /**
      * Prints a divider.
      */
     public static void printDivider() {
-        System.out.println("-------------------");
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line("-------------------");
+        }
     }
 
     /**
      * Prints the student menu header.
      */
     public static void printStudentMenu() {
-        System.out.println("\n╔═════════════════════════════════════════════╗");
-        System.out.println("║          STUDENT MENU                       ║");
-        System.out.println("╚═════════════════════════════════════════════╝");
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line("\n╔═════════════════════════════════════════════╗");
+            screen.line("║          STUDENT MENU                       ║");
+            screen.line("╚═════════════════════════════════════════════╝");
+        }
     }
 
     /**
      * Prints the company representative menu header.
      */
     public static void printCompanyRepMenu() {
-        System.out.println("\n╔═════════════════════════════════════════════╗");
-        System.out.println("║     COMPANY REPRESENTATIVE MENU             ║");
-        System.out.println("╚═════════════════════════════════════════════╝");
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line("\n╔═════════════════════════════════════════════╗");
+            screen.line("║     COMPANY REPRESENTATIVE MENU             ║");
+            screen.line("╚═════════════════════════════════════════════╝");
+        }
     }
 
     /**
      * Prints the career center staff menu header.
      */
     public static void printCareerStaffMenu() {
-        System.out.println("\n╔═════════════════════════════════════════════╗");
-        System.out.println("║       CAREER CENTER STAFF MENU              ║");
-        System.out.println("╚═════════════════════════════════════════════╝");
+        try (ConsoleRenderer screen = ConsoleRenderer.begin()) {
+            screen.line("\n╔═════════════════════════════════════════════╗");
+            screen.line("║       CAREER CENTER STAFF MENU              ║");
+            screen.line("╚═════════════════════════════════════════════╝");
+        }
     }
 }
@@ -12,6 +12,12 @@ public abstract class User {
     protected String salt;
     /** Whether the user is logged in. */
     protected boolean isLoggedIn;
+    /** Modification version, bumped whenever a persisted field changes. */
+    private int version;
+    /** The version last written to disk, or -1 if never written. */
+    private int persistedVersion = -1;
+    /** Listener notified whenever a persisted field changes. */
+    private IEntityChangeListener<User> changeListener;
 
     /**
      * Constructs a User with a plain text password.
@@ -81,6 +87,7 @@ public abstract class User {
     public void changePassword(String newPassword) {
         this.salt = PasswordUtil.generateSalt();
         this.passwordHash = PasswordUtil.hashPassword(newPassword, this.salt);
+        markModified("password", null, null);
     }
 
     /**
@@ -90,6 +97,7 @@ public abstract class User {
      */
     public void setPasswordHash(String passwordHash) {
         this.passwordHash = passwordHash;
+        markModified("password", null, null);
     }
 
     /**
@@ -99,6 +107,58 @@ public abstract class User {
      */
     public void setSalt(String salt) {
         this.salt = salt;
+        markModified("password", null, null);
+    }
+
+    /**
+     * Records that a persisted field changed and notifies the change listener.
+     * Credentials are reported without their values.
+     *
+     * @param property the name of the changed field
+     * @param before the value before the change
+     * @param after the value after the change
+     */
+    protected void markModified(String property, Object before, Object after) {
+        version++;
+        if (changeListener != null) {
+            changeListener.onChanged(this, property, before, after);
+        }
+    }
+
+    /**
+     * Sets the listener notified whenever a persisted field changes.
+     *
+     * @param changeListener the listener, or null to detach
+     */
+    public void setChangeListener(IEntityChangeListener<User> changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Gets the modification version.
+     *
+     * @return the version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks if the user changed since it was last written to disk.
+     *
+     * @return true if unsaved changes exist
+     */
+    public boolean isDirty() {
+        return version != persistedVersion;
+    }
+
+    /**
+     * Records that the given version has been written to disk.
+     *
+     * @param version the version that was written
+     */
+    public void markPersisted(int version) {
+        this.persistedVersion = version;
     }
 
     /**
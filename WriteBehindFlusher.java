@@ -0,0 +1,153 @@
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind flusher for the CSV repositories.
+ * Repositories hand their save work to the flusher instead of writing on the
+ * caller's thread; saves requested before a flush are coalesced so each
+ * repository writes at most once per flush (group commit).
+ */
+public class WriteBehindFlusher {
+    /**
+     * When pending saves reach disk.
+     */
+    public enum DurabilityPolicy {
+        /** Saves are deferred until enough changes are pending or the flusher shuts down. */
+        NONE,
+        /** Saves are written by a background thread at a fixed interval, or sooner once enough changes are pending. */
+        INTERVAL,
+        /** Every save is written on the caller's thread before it returns. */
+        EVERY_COMMIT
+    }
+
+    private final DurabilityPolicy policy;
+    private final int maxPendingChanges;
+    private final Set<Runnable> pendingWrites = new LinkedHashSet<>(); // one entry per repository, in request order
+    private final Object writeLock = new Object(); // serializes writes so files are never written concurrently
+    private final ScheduledExecutorService scheduler;
+    private int pendingChanges = 0;
+    private long flushCount = 0;
+    private long coalescedChanges = 0;
+    private boolean shutdown = false;
+
+    /**
+     * Constructs a WriteBehindFlusher.
+     *
+     * @param policy the durability policy
+     * @param intervalMillis how often the background thread flushes under {@link DurabilityPolicy#INTERVAL}
+     * @param maxPendingChanges the number of pending changes that triggers an early flush
+     */
+    public WriteBehindFlusher(DurabilityPolicy policy, long intervalMillis, int maxPendingChanges) {
+        this.policy = policy;
+        this.maxPendingChanges = Math.max(1, maxPendingChanges);
+        if (policy == DurabilityPolicy.EVERY_COMMIT) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "csv-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (policy == DurabilityPolicy.INTERVAL) {
+            scheduler.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Gets the durability policy.
+     *
+     * @return the policy
+     */
+    public DurabilityPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Requests that a repository's state be written. Repeated requests for the
+     * same write before the next flush are merged into one.
+     *
+     * @param write the repository's write task; must be the same instance on every call
+     */
+    public void submit(Runnable write) {
+        synchronized (this) {
+            pendingWrites.add(write);
+            if (policy != DurabilityPolicy.EVERY_COMMIT && !shutdown) {
+                pendingChanges++;
+                if (pendingChanges == maxPendingChanges) {
+                    scheduler.execute(this::flush);
+                }
+                return;
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Writes all pending saves on the calling thread.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            List<Runnable> writes;
+            synchronized (this) {
+                if (pendingWrites.isEmpty()) {
+                    return;
+                }
+                writes = new ArrayList<>(pendingWrites);
+                coalescedChanges += pendingChanges;
+                pendingWrites.clear();
+                pendingChanges = 0;
+                flushCount++;
+            }
+            for (Runnable write : writes) {
+                try {
+                    write.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error flushing pending writes: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Flushes everything still pending and stops the background thread.
+     * Saves requested afterwards are written immediately.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Gets the number of flushes that wrote at least one repository.
+     *
+     * @return the flush count
+     */
+    public synchronized long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * Gets the number of deferred save requests that were folded into a flush.
+     *
+     * @return the coalesced change count
+     */
+    public synchronized long getCoalescedChanges() {
+        return coalescedChanges;
+    }
+}